@@ -6,6 +6,7 @@ import com.intellij.openapi.actionSystem.CommonDataKeys;
 import com.intellij.openapi.actionSystem.DataContext;
 import com.intellij.openapi.application.ApplicationManager;
 import com.intellij.openapi.ide.CopyPasteManager;
+import com.intellij.openapi.progress.ProcessCanceledException;
 import com.intellij.openapi.progress.ProgressIndicator;
 import com.intellij.openapi.progress.ProgressManager;
 import com.intellij.openapi.progress.Task;
@@ -23,9 +24,12 @@ import org.jetbrains.annotations.Nullable;
 import java.awt.datatransfer.StringSelection;
 import java.awt.Toolkit;
 import java.awt.datatransfer.Clipboard;
+import java.util.logging.Logger;
 
 public abstract class BaseGenerateAction extends AnAction {
 
+    private static final Logger LOGGER = Logger.getLogger(BaseGenerateAction.class.getName());
+
     @Override
     public void actionPerformed(@NotNull AnActionEvent e) {
         Project project = e.getProject();
@@ -43,29 +47,22 @@ public abstract class BaseGenerateAction extends AnAction {
             return;
         }
 
-        // Run generation in background with progress indicator
-        ProgressManager.getInstance().run(new Task.Backgroundable(project, getProgressTitle(className), false) {
+        // Run generation in background; the generators report real progress and stop on cancel
+        ProgressManager.getInstance().run(new Task.Backgroundable(project, getProgressTitle(className), true) {
             private String generated;
             private Exception error;
             
             @Override
             public void run(@NotNull ProgressIndicator indicator) {
+                indicator.setIndeterminate(false);
                 indicator.setText("Analyzing class: " + className);
-                indicator.setFraction(0.1);
+                indicator.setFraction(0.0);
                 
                 try {
-                    Thread.sleep(100); // Brief pause to show progress
-                    indicator.setText("Generating " + getOutputType() + "...");
-                    indicator.setFraction(0.3);
-                    
-                    generated = generate(psiClass, project);
-                    
-                    indicator.setText("Formatting output...");
-                    indicator.setFraction(0.8);
-                    
-                    Thread.sleep(50); // Brief pause
+                    generated = generate(psiClass, project, indicator);
                     indicator.setFraction(1.0);
-                    
+                } catch (ProcessCanceledException ex) {
+                    throw ex;
                 } catch (Exception ex) {
                     error = ex;
                 }
@@ -87,6 +84,11 @@ public abstract class BaseGenerateAction extends AnAction {
                 copyToClipboard(generated, project, className);
             }
             
+            @Override
+            public void onCancel() {
+                LOGGER.fine("Generation cancelled for class: " + className);
+            }
+            
             @Override
             public void onThrowable(@NotNull Throwable error) {
                 handleError(project, new Exception(error), className);
@@ -185,8 +187,11 @@ public abstract class BaseGenerateAction extends AnAction {
             Messages.showErrorDialog(project, message, "Error"));
     }
 
+    /**
+     * First class of the Java file in the editor or selected in the project view
+     */
     @Nullable
-    private PsiClass getPsiClass(AnActionEvent e) {
+    static PsiClass getPsiClass(AnActionEvent e) {
         DataContext dataContext = e.getDataContext();
         
         // Try to get from editor
@@ -216,7 +221,10 @@ public abstract class BaseGenerateAction extends AnAction {
         return null;
     }
 
-    protected abstract String generate(PsiClass psiClass, Project project);
+    /**
+     * Generates the output, calling back into {@code indicator} for progress and cancellation
+     */
+    protected abstract String generate(PsiClass psiClass, Project project, @NotNull ProgressIndicator indicator);
     
     protected abstract String getSuccessMessage();
     
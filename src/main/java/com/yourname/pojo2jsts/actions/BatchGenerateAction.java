@@ -0,0 +1,283 @@
+package com.yourname.pojo2jsts.actions;
+
+import com.intellij.openapi.actionSystem.AnAction;
+import com.intellij.openapi.actionSystem.AnActionEvent;
+import com.intellij.openapi.actionSystem.CommonDataKeys;
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.fileChooser.FileChooser;
+import com.intellij.openapi.fileChooser.FileChooserDescriptorFactory;
+import com.intellij.openapi.progress.ProcessCanceledException;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.progress.Task;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.roots.GeneratedSourcesFilter;
+import com.intellij.openapi.roots.ProjectFileIndex;
+import com.intellij.openapi.ui.Messages;
+import com.intellij.openapi.vfs.LocalFileSystem;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiJavaFile;
+import com.intellij.psi.PsiManager;
+import com.intellij.util.ui.UIUtil;
+import com.yourname.pojo2jsts.generators.GenerationService;
+import com.yourname.pojo2jsts.generators.OutputSink;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.stream.Stream;
+import java.util.logging.Logger;
+
+/**
+ * Generates output for every class in the selected directories, packages or Java files.
+ * The classes are collected in one non-blocking read action and generated concurrently on the
+ * {@link GenerationService} pool; results are written as they arrive, either one file per class
+ * or a single bundle, so a whole API package takes one operation.
+ */
+public abstract class BatchGenerateAction extends AnAction {
+
+    private static final Logger LOGGER = Logger.getLogger(BatchGenerateAction.class.getName());
+    private static final String[] LAYOUTS = {"One File per Class", "Single Bundle", "Cancel"};
+
+    @Override
+    public void actionPerformed(@NotNull AnActionEvent e) {
+        Project project = e.getProject();
+        VirtualFile[] selection = CommonDataKeys.VIRTUAL_FILE_ARRAY.getData(e.getDataContext());
+        if (project == null || selection == null || selection.length == 0) return;
+
+        int layout = Messages.showDialog(project,
+            "Write one " + getOutputType() + " file per class, or all classes into " + getBundleFileName() + "?",
+            "Generate " + getOutputType() + " for All Classes", LAYOUTS, 0, Messages.getQuestionIcon());
+        if (layout != 0 && layout != 1) return;
+        boolean bundle = layout == 1;
+
+        VirtualFile directory = FileChooser.chooseFile(FileChooserDescriptorFactory.createSingleFolderDescriptor()
+            .withTitle("Choose Output Directory"), project, null);
+        if (directory == null) return;
+        Path outputDirectory = Paths.get(directory.getPath());
+
+        ProgressManager.getInstance().run(new Task.Backgroundable(project, "Generating " + getOutputType() + " for selected classes", true) {
+            private int written;
+            private int skipped;
+            private Exception error;
+
+            @Override
+            public void run(@NotNull ProgressIndicator indicator) {
+                indicator.setIndeterminate(true);
+                indicator.setText("Finding classes...");
+                try {
+                    List<PsiClass> classes = ReadAction.nonBlocking(() -> findClasses(project, selection))
+                        .wrapProgress(indicator)
+                        .executeSynchronously();
+                    indicator.setText("Generating " + getOutputType() + " for " + classes.size() + " classes...");
+                    if (bundle) {
+                        writeBundle(project, classes, outputDirectory, indicator);
+                    } else {
+                        writeFiles(project, classes, outputDirectory, indicator);
+                    }
+                    LocalFileSystem.getInstance().refreshAndFindFileByNioFile(outputDirectory);
+                } catch (ProcessCanceledException ex) {
+                    throw ex;
+                } catch (Exception ex) {
+                    error = ex;
+                }
+            }
+
+            /**
+             * Writes the files into a hidden staging directory and moves them into place only once
+             * every class is done, so a cancelled or failed run leaves no partial set behind
+             */
+            private void writeFiles(Project project, List<PsiClass> classes, Path directory, ProgressIndicator indicator)
+                    throws IOException {
+                Map<PsiClass, String> fileNames = ReadAction.compute(() -> fileNames(classes));
+                Path staging = Files.createTempDirectory(directory, ".pojo2jsts-");
+                try {
+                    List<String> staged = new ArrayList<>();
+                    skipped = GenerationService.getInstance().generateAll(project, classes, getOutputKind(), indicator,
+                        (psiClass, output) -> {
+                            String fileName = fileNames.get(psiClass);
+                            indicator.setText2(fileName);
+                            try (OutputSink out = OutputSink.toFile(staging.resolve(fileName))) {
+                                out.append(output);
+                            } catch (IOException ex) {
+                                throw new UncheckedIOException(ex);
+                            }
+                            staged.add(fileName);
+                            written++;
+                        });
+                    for (String fileName : staged) {
+                        Files.move(staging.resolve(fileName), directory.resolve(fileName),
+                            StandardCopyOption.REPLACE_EXISTING);
+                    }
+                } finally {
+                    deleteTree(staging);
+                }
+            }
+
+            private void writeBundle(Project project, List<PsiClass> classes, Path directory, ProgressIndicator indicator)
+                    throws IOException {
+                Map<PsiClass, String> qualifiedNames = new HashMap<>();
+                ReadAction.compute(() -> {
+                    for (PsiClass psiClass : classes) {
+                        qualifiedNames.put(psiClass, psiClass.getQualifiedName());
+                    }
+                    return null;
+                });
+                // Written next to the target and moved over it once complete
+                Path partial = Files.createTempFile(directory, getBundleFileName() + ".", ".part");
+                try {
+                    try (OutputSink out = OutputSink.toFile(partial)) {
+                        writeBundle(project, classes, qualifiedNames, out, indicator);
+                    }
+                    Files.move(partial, directory.resolve(getBundleFileName()), StandardCopyOption.REPLACE_EXISTING);
+                } finally {
+                    Files.deleteIfExists(partial);
+                }
+            }
+
+            private void writeBundle(Project project, List<PsiClass> classes, Map<PsiClass, String> qualifiedNames,
+                                     OutputSink out, ProgressIndicator indicator) throws IOException {
+                Bundle target = newBundle(project, out);
+                skipped = GenerationService.getInstance().generateAll(project, classes, getOutputKind(), indicator,
+                    (psiClass, output) -> {
+                        String qualifiedName = qualifiedNames.get(psiClass);
+                        indicator.setText2(qualifiedName);
+                        try {
+                            target.add(psiClass, qualifiedName, output);
+                        } catch (IOException ex) {
+                            throw new UncheckedIOException(ex);
+                        }
+                        written++;
+                    });
+                target.finish();
+            }
+
+            @Override
+            public void onSuccess() {
+                if (error != null) {
+                    LOGGER.log(Level.WARNING, "Batch generation failed", error);
+                    UIUtil.invokeLaterIfNeeded(() -> Messages.showErrorDialog(project,
+                        "Failed to generate " + getOutputType() + ":\n\n" + error.getMessage(), "Error"));
+                    return;
+                }
+                String message = String.format("%s generated for %d classes into %s%s", getOutputType(), written,
+                    bundle ? outputDirectory.resolve(getBundleFileName()) : outputDirectory,
+                    skipped > 0 ? "\n\n" + skipped + " classes failed; see the log for details" : "");
+                UIUtil.invokeLaterIfNeeded(() -> Messages.showInfoMessage(project, message, "Success"));
+            }
+
+            @Override
+            public void onCancel() {
+                LOGGER.fine("Batch generation cancelled after " + written + " classes");
+            }
+        });
+    }
+
+    @Override
+    public void update(@NotNull AnActionEvent e) {
+        VirtualFile[] selection = CommonDataKeys.VIRTUAL_FILE_ARRAY.getData(e.getDataContext());
+        // Single Java files are served by the regular actions
+        boolean batch = selection != null && (selection.length > 1
+            || (selection.length == 1 && selection[0].isDirectory()));
+        e.getPresentation().setEnabledAndVisible(e.getProject() != null && batch);
+    }
+
+    /**
+     * Top-level classes of every Java source file in the selection, directories searched recursively.
+     * Excluded and build output directories and generated sources are skipped, as are interfaces,
+     * annotations and enums; those only appear as dependencies.
+     */
+    private static List<PsiClass> findClasses(Project project, VirtualFile[] selection) {
+        ProjectFileIndex fileIndex = ProjectFileIndex.getInstance(project);
+        Set<VirtualFile> javaFiles = new LinkedHashSet<>();
+        for (VirtualFile root : selection) {
+            // Only walks project content, so excluded directories are never entered
+            fileIndex.iterateContentUnderDirectory(root, file -> {
+                if (!file.isDirectory() && "java".equals(file.getExtension()) && fileIndex.isInSourceContent(file)) {
+                    javaFiles.add(file);
+                }
+                return true;
+            }, file -> !GeneratedSourcesFilter.isGeneratedSourceByAnyFilter(file, project));
+        }
+
+        PsiManager psiManager = PsiManager.getInstance(project);
+        List<PsiClass> classes = new ArrayList<>();
+        for (VirtualFile file : javaFiles) {
+            PsiFile psiFile = psiManager.findFile(file);
+            if (psiFile instanceof PsiJavaFile) {
+                for (PsiClass psiClass : ((PsiJavaFile) psiFile).getClasses()) {
+                    if (psiClass.getName() != null && !psiClass.isInterface()
+                            && !psiClass.isAnnotationType() && !psiClass.isEnum()) {
+                        classes.add(psiClass);
+                    }
+                }
+            }
+        }
+        return classes;
+    }
+
+    private static void deleteTree(Path root) {
+        try (Stream<Path> paths = Files.walk(root)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> {
+                try {
+                    Files.deleteIfExists(path);
+                } catch (IOException e) {
+                    LOGGER.warning("Could not delete staged file " + path + ": " + e.getMessage());
+                }
+            });
+        } catch (IOException e) {
+            LOGGER.warning("Could not delete staging directory " + root + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * File name per class: the simple name, or the qualified name where simple names clash
+     */
+    private Map<PsiClass, String> fileNames(List<PsiClass> classes) {
+        Map<String, Integer> simpleNameCounts = new HashMap<>();
+        for (PsiClass psiClass : classes) {
+            simpleNameCounts.merge(psiClass.getName(), 1, Integer::sum);
+        }
+        Map<PsiClass, String> fileNames = new HashMap<>();
+        for (PsiClass psiClass : classes) {
+            String name = simpleNameCounts.get(psiClass.getName()) > 1 && psiClass.getQualifiedName() != null
+                ? psiClass.getQualifiedName() : psiClass.getName();
+            fileNames.put(psiClass, name + "." + getFileExtension());
+        }
+        return fileNames;
+    }
+
+    /**
+     * Collects the outputs of all classes into one file. Called on the background thread, without
+     * read access, once per successfully generated class in selection order.
+     */
+    protected interface Bundle {
+        void add(PsiClass psiClass, String qualifiedName, String output) throws IOException;
+
+        void finish() throws IOException;
+    }
+
+    protected abstract GenerationService.OutputKind getOutputKind();
+
+    protected abstract String getOutputType();
+
+    protected abstract String getFileExtension();
+
+    protected abstract String getBundleFileName();
+
+    protected abstract Bundle newBundle(Project project, Appendable out);
+}
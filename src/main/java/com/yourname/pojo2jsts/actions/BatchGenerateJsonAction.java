@@ -0,0 +1,53 @@
+package com.yourname.pojo2jsts.actions;
+
+import com.intellij.openapi.project.Project;
+import com.intellij.psi.PsiClass;
+import com.yourname.pojo2jsts.generators.GenerationService;
+
+import java.io.IOException;
+
+public class BatchGenerateJsonAction extends BatchGenerateAction {
+
+    @Override
+    protected GenerationService.OutputKind getOutputKind() {
+        return GenerationService.OutputKind.JSON;
+    }
+
+    @Override
+    protected String getOutputType() {
+        return "JSON";
+    }
+
+    @Override
+    protected String getFileExtension() {
+        return "json";
+    }
+
+    @Override
+    protected String getBundleFileName() {
+        return "samples.json";
+    }
+
+    /**
+     * One JSON object with each class's sample under its qualified name
+     */
+    @Override
+    protected Bundle newBundle(Project project, Appendable out) {
+        return new Bundle() {
+            private boolean first = true;
+
+            @Override
+            public void add(PsiClass psiClass, String qualifiedName, String output) throws IOException {
+                out.append(first ? "{\n" : ",\n");
+                first = false;
+                // Qualified names never need escaping; nest the sample one level deeper
+                out.append("  \"").append(qualifiedName).append("\": ").append(output.replace("\n", "\n  "));
+            }
+
+            @Override
+            public void finish() throws IOException {
+                out.append(first ? "{}\n" : "\n}\n");
+            }
+        };
+    }
+}
@@ -0,0 +1,70 @@
+package com.yourname.pojo2jsts.actions;
+
+import com.intellij.openapi.project.Project;
+import com.intellij.psi.PsiClass;
+import com.yourname.pojo2jsts.config.PluginSettings;
+import com.yourname.pojo2jsts.generators.GenerationService;
+import com.yourname.pojo2jsts.generators.TypeScriptGenerator;
+import com.yourname.pojo2jsts.model.ClassModel;
+import com.yourname.pojo2jsts.model.GenerationProgress;
+import com.yourname.pojo2jsts.model.TypeModelCache;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+public class BatchGenerateTypeScriptAction extends BatchGenerateAction {
+
+    @Override
+    protected GenerationService.OutputKind getOutputKind() {
+        return GenerationService.OutputKind.TYPESCRIPT;
+    }
+
+    @Override
+    protected String getOutputType() {
+        return "TypeScript";
+    }
+
+    @Override
+    protected String getFileExtension() {
+        return "ts";
+    }
+
+    @Override
+    protected String getBundleFileName() {
+        return "models.ts";
+    }
+
+    /**
+     * All interfaces in one module, rendered from the class models rather than the per-class
+     * output: an interface shared by several classes is written once, and classes sharing a
+     * simple name get distinct interface names
+     */
+    @Override
+    protected Bundle newBundle(Project project, Appendable out) {
+        return new Bundle() {
+            private final List<ClassModel> roots = new ArrayList<>();
+
+            @Override
+            public void add(PsiClass psiClass, String qualifiedName, String output) {
+                // Resolved by the generation that just finished, so this is a cache hit
+                ClassModel model = TypeModelCache.getInstance(project).getModel(psiClass);
+                if (model != null) {
+                    roots.add(model);
+                }
+            }
+
+            @Override
+            public void finish() throws IOException {
+                TypeScriptGenerator generator = new TypeScriptGenerator(PluginSettings.getInstance().getProfile());
+                try {
+                    generator.generateBundle(roots, out, GenerationProgress.NONE);
+                } catch (UncheckedIOException e) {
+                    throw e.getCause();
+                }
+                out.append("\n");
+            }
+        };
+    }
+}
@@ -0,0 +1,128 @@
+package com.yourname.pojo2jsts.actions;
+
+import com.intellij.openapi.actionSystem.AnAction;
+import com.intellij.openapi.actionSystem.AnActionEvent;
+import com.intellij.openapi.fileChooser.FileChooserFactory;
+import com.intellij.openapi.fileChooser.FileSaverDescriptor;
+import com.intellij.openapi.progress.ProcessCanceledException;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.progress.Task;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.ui.InputValidator;
+import com.intellij.openapi.ui.Messages;
+import com.intellij.openapi.vfs.VirtualFileWrapper;
+import com.intellij.psi.PsiClass;
+import com.intellij.util.ui.UIUtil;
+import com.yourname.pojo2jsts.config.GenerationProfile;
+import com.yourname.pojo2jsts.config.PluginSettings;
+import com.yourname.pojo2jsts.generators.BulkJsonExporter;
+import com.yourname.pojo2jsts.model.ClassModel;
+import com.yourname.pojo2jsts.model.GenerationProgress;
+import com.yourname.pojo2jsts.model.TypeModelCache;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.File;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Writes a chosen number of random instances of the selected class to an NDJSON file,
+ * for load tests and fixtures too large for the clipboard
+ */
+public class ExportJsonFixturesAction extends AnAction {
+
+    private static final Logger LOGGER = Logger.getLogger(ExportJsonFixturesAction.class.getName());
+    private static final String DEFAULT_COUNT = "100000";
+
+    @Override
+    public void actionPerformed(@NotNull AnActionEvent e) {
+        Project project = e.getProject();
+        if (project == null) return;
+
+        PsiClass psiClass = BaseGenerateAction.getPsiClass(e);
+        String className = psiClass != null ? psiClass.getName() : null;
+        if (className == null) {
+            Messages.showErrorDialog(project, "Please select a Java class file.", "Error");
+            return;
+        }
+
+        String input = Messages.showInputDialog(project, "Number of records to generate:",
+            "Export JSON Fixtures", null, DEFAULT_COUNT, new RecordCountValidator());
+        if (input == null) return;
+        long count = Long.parseLong(input.trim());
+
+        GenerationProfile profile = PluginSettings.getInstance().getProfile();
+        boolean compressed = profile.isCompressOutput();
+        FileSaverDescriptor descriptor = compressed
+            ? new FileSaverDescriptor("Export JSON Fixtures",
+                "Choose where to write the gzip-compressed newline-delimited JSON records", "gz")
+            : new FileSaverDescriptor("Export JSON Fixtures",
+                "Choose where to write the newline-delimited JSON records", "ndjson", "jsonl");
+        VirtualFileWrapper wrapper = FileChooserFactory.getInstance()
+            .createSaveFileDialog(descriptor, project)
+            .save(null, className + (compressed ? ".ndjson.gz" : ".ndjson"));
+        if (wrapper == null) return;
+        File target = wrapper.getFile();
+
+        ProgressManager.getInstance().run(new Task.Backgroundable(project, "Exporting JSON fixtures for " + className, true) {
+            private BulkJsonExporter.Stats stats;
+            private Exception error;
+
+            @Override
+            public void run(@NotNull ProgressIndicator indicator) {
+                indicator.setIndeterminate(false);
+                indicator.setFraction(0.0);
+                GenerationProgress progress = GenerationProgress.of(indicator);
+                try {
+                    progress.setText("Resolving class model...");
+                    ClassModel model = TypeModelCache.getInstance(project).getModel(psiClass, progress);
+                    stats = new BulkJsonExporter(profile).export(model, count, target.toPath(), progress);
+                } catch (ProcessCanceledException ex) {
+                    throw ex;
+                } catch (Exception ex) {
+                    error = ex;
+                }
+            }
+
+            @Override
+            public void onSuccess() {
+                if (error != null) {
+                    LOGGER.log(Level.WARNING, "JSON fixture export failed", error);
+                    UIUtil.invokeLaterIfNeeded(() -> Messages.showErrorDialog(project,
+                        "Failed to export JSON fixtures for '" + className + "':\n\n" + error.getMessage(), "Error"));
+                    return;
+                }
+                LOGGER.info("Exported JSON fixtures for " + className + ": " + stats);
+                UIUtil.invokeLaterIfNeeded(() -> Messages.showInfoMessage(project,
+                    "Wrote " + stats + "\n\nto " + target.getPath(), "Success"));
+            }
+
+            @Override
+            public void onCancel() {
+                LOGGER.fine("Fixture export cancelled for class: " + className);
+            }
+        });
+    }
+
+    @Override
+    public void update(@NotNull AnActionEvent e) {
+        e.getPresentation().setEnabledAndVisible(BaseGenerateAction.getPsiClass(e) != null);
+    }
+
+    private static final class RecordCountValidator implements InputValidator {
+        @Override
+        public boolean checkInput(String inputString) {
+            try {
+                return Long.parseLong(inputString.trim()) > 0;
+            } catch (NumberFormatException e) {
+                return false;
+            }
+        }
+
+        @Override
+        public boolean canClose(String inputString) {
+            return checkInput(inputString);
+        }
+    }
+}
@@ -1,15 +1,16 @@
 package com.yourname.pojo2jsts.actions;
 
+import com.intellij.openapi.progress.ProgressIndicator;
 import com.intellij.openapi.project.Project;
 import com.intellij.psi.PsiClass;
-import com.yourname.pojo2jsts.generators.JsonGenerator;
+import com.yourname.pojo2jsts.generators.GenerationService;
+import org.jetbrains.annotations.NotNull;
 
 public class GenerateJsonAction extends BaseGenerateAction {
 
     @Override
-    protected String generate(PsiClass psiClass, Project project) {
-        JsonGenerator generator = new JsonGenerator();
-        return generator.generate(psiClass, project);
+    protected String generate(PsiClass psiClass, Project project, @NotNull ProgressIndicator indicator) {
+        return GenerationService.getInstance().generate(project, psiClass, GenerationService.OutputKind.JSON, indicator);
     }
 
     @Override
@@ -1,15 +1,16 @@
 package com.yourname.pojo2jsts.actions;
 
+import com.intellij.openapi.progress.ProgressIndicator;
 import com.intellij.openapi.project.Project;
 import com.intellij.psi.PsiClass;
-import com.yourname.pojo2jsts.generators.TypeScriptGenerator;
+import com.yourname.pojo2jsts.generators.GenerationService;
+import org.jetbrains.annotations.NotNull;
 
 public class GenerateTypeScriptAction extends BaseGenerateAction {
 
     @Override
-    protected String generate(PsiClass psiClass, Project project) {
-        TypeScriptGenerator generator = new TypeScriptGenerator();
-        return generator.generate(psiClass, project);
+    protected String generate(PsiClass psiClass, Project project, @NotNull ProgressIndicator indicator) {
+        return GenerationService.getInstance().generate(project, psiClass, GenerationService.OutputKind.TYPESCRIPT, indicator);
     }
 
     @Override
@@ -0,0 +1,266 @@
+package com.yourname.pojo2jsts.config;
+
+import com.yourname.pojo2jsts.generators.CustomValueGenerator;
+import com.yourname.pojo2jsts.generators.CustomValueGenerators;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.DateTimeException;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Immutable snapshot of everything the generators read from {@link PluginSettings}: limits,
+ * output format, the compiled date formatter, the mapping indexes, and the parsed JSON value
+ * templates and custom generator instances of the type mappings. Mappings are copied at
+ * compile time, so a generation holding a profile never sees a settings change half-applied.
+ * Every compiled profile gets a new version, which callers can use to tell snapshots apart.
+ */
+public final class GenerationProfile {
+
+    private static final AtomicLong VERSIONS = new AtomicLong();
+    private static final String DEFAULT_DATE_FORMAT = "yyyy-MM-dd HH:mm:ss";
+    private static final String DATE_ONLY_FORMAT = "yyyy-MM-dd";
+    private static final String TIME_ONLY_FORMAT = "HH:mm:ss";
+    // Formatters by pattern and zone, shared by every profile compiled with them
+    private static final Map<String, DateTimeFormatter> FORMATTERS = new ConcurrentHashMap<>();
+
+    public static final GenerationProfile DEFAULT = compile(new PluginSettings());
+
+    private final long version;
+    private final int maxRecursionDepth;
+    private final int arrayMaxSize;
+    private final int jsonIndentSize;
+    private final boolean preserveInheritance;
+    private final boolean fixedSeed;
+    private final long randomSeed;
+    private final boolean memoryMappedOutput;
+    private final boolean compressOutput;
+    private final int compressionLevel;
+    private final int exportChunkSize;
+    private final DateTimeFormatter dateFormatter;
+    private final DateTimeFormatter dateOnlyFormatter;
+    private final DateTimeFormatter timeOnlyFormatter;
+    private final int pastDays;
+    private final int futureDays;
+    private final boolean useCurrentTime;
+    private final PackageMappingIndex packageMappings;
+    private final TypeMappingIndex typeMappings;
+    private final Map<TypeMapping, JsonValueTemplate> jsonTemplates = new IdentityHashMap<>();
+    private final Map<TypeMapping, CustomValueGenerator> customGenerators = new IdentityHashMap<>();
+
+    private GenerationProfile(PluginSettings settings) {
+        this.version = VERSIONS.incrementAndGet();
+        this.maxRecursionDepth = settings.getMaxRecursionDepth();
+        this.arrayMaxSize = settings.getArrayMaxSize();
+        this.jsonIndentSize = settings.getEffectiveJsonIndentSize();
+        this.preserveInheritance = settings.isPreserveInheritance();
+        this.fixedSeed = settings.isUseFixedSeed();
+        this.randomSeed = settings.getRandomSeed();
+        this.memoryMappedOutput = settings.isMemoryMappedOutput();
+        this.compressOutput = settings.isCompressOutput();
+        this.compressionLevel = settings.getCompressionLevel();
+        this.exportChunkSize = settings.getExportChunkSize();
+
+        DateConfig dateConfig = settings.getDateConfig() != null ? settings.getDateConfig() : new DateConfig();
+        ZoneId zoneId = compileZone(dateConfig.getTimeZone());
+        this.dateFormatter = compileFormatter(dateConfig.getFormat(), zoneId);
+        this.dateOnlyFormatter = compileFormatter(DATE_ONLY_FORMAT, zoneId);
+        this.timeOnlyFormatter = compileFormatter(TIME_ONLY_FORMAT, zoneId);
+        this.pastDays = Math.max(0, dateConfig.getPastDays());
+        this.futureDays = Math.max(0, dateConfig.getFutureDays());
+        this.useCurrentTime = dateConfig.isUseCurrentTime();
+
+        List<PackageMapping> packageCopies = new ArrayList<>();
+        for (PackageMapping mapping : settings.getPackageMappings()) {
+            packageCopies.add(mapping != null ? copyOf(mapping) : null);
+        }
+        List<TypeMapping> typeCopies = new ArrayList<>();
+        for (TypeMapping mapping : settings.getTypeMappings()) {
+            TypeMapping copy = mapping != null ? copyOf(mapping) : null;
+            typeCopies.add(copy);
+            // Each pattern is parsed here once, never per generated value
+            if (copy != null && !isBlank(copy.getJsonValuePattern())) {
+                jsonTemplates.put(copy, JsonValueTemplate.parse(copy.getJsonValuePattern().trim()));
+            }
+        }
+        this.packageMappings = PackageMappingIndex.compile(packageCopies);
+        this.typeMappings = TypeMappingIndex.compile(typeCopies);
+        resolveCustomGenerators(typeCopies);
+    }
+
+    /**
+     * Loads every named custom generator once, so generations never touch reflection
+     */
+    private void resolveCustomGenerators(List<TypeMapping> mappings) {
+        Set<String> classNames = new HashSet<>();
+        for (TypeMapping mapping : mappings) {
+            if (mapping != null && mapping.isEnabled() && mapping.hasCustomGenerator()) {
+                classNames.add(mapping.getCustomGenerator().trim());
+            }
+        }
+        Map<String, CustomValueGenerator> resolved = CustomValueGenerators.resolve(classNames);
+        for (TypeMapping mapping : mappings) {
+            if (mapping != null && mapping.hasCustomGenerator()) {
+                CustomValueGenerator generator = resolved.get(mapping.getCustomGenerator().trim());
+                if (generator != null) {
+                    customGenerators.put(mapping, generator);
+                }
+            }
+        }
+    }
+
+    /**
+     * Compiles the current state of the settings into a new profile
+     */
+    public static GenerationProfile compile(PluginSettings settings) {
+        return new GenerationProfile(settings);
+    }
+
+    public long getVersion() { return version; }
+    public int getMaxRecursionDepth() { return maxRecursionDepth; }
+    public int getArrayMaxSize() { return arrayMaxSize; }
+
+    /**
+     * Indent size for JSON output; 0 means compact output
+     */
+    public int getJsonIndentSize() { return jsonIndentSize; }
+    public boolean isPreserveInheritance() { return preserveInheritance; }
+
+    /**
+     * Whether generations are seeded with {@link #getRandomSeed()} instead of a fresh seed
+     */
+    public boolean isFixedSeed() { return fixedSeed; }
+    public long getRandomSeed() { return randomSeed; }
+    public boolean isMemoryMappedOutput() { return memoryMappedOutput; }
+    public boolean isCompressOutput() { return compressOutput; }
+    public int getCompressionLevel() { return compressionLevel; }
+    public int getExportChunkSize() { return exportChunkSize; }
+
+    /**
+     * Configured date format in the configured zone; formats {@link java.time.Instant}s directly
+     */
+    public DateTimeFormatter getDateFormatter() { return dateFormatter; }
+    public DateTimeFormatter getDateOnlyFormatter() { return dateOnlyFormatter; }
+    public DateTimeFormatter getTimeOnlyFormatter() { return timeOnlyFormatter; }
+    public int getPastDays() { return pastDays; }
+    public int getFutureDays() { return futureDays; }
+    public boolean isUseCurrentTime() { return useCurrentTime; }
+
+    public PackageMappingIndex getPackageMappings() { return packageMappings; }
+    public TypeMappingIndex getTypeMappings() { return typeMappings; }
+
+    /**
+     * TypeScript type configured for the type by a type mapping or its custom generator
+     */
+    @Nullable
+    public String findMappedTsType(String typeName) {
+        TypeMapping typeMapping = typeMappings.find(typeName);
+        if (typeMapping == null) {
+            return null;
+        }
+        CustomValueGenerator generator = customGenerators.get(typeMapping);
+        String tsType = generator != null ? generator.getTsType() : null;
+        if (isBlank(tsType)) {
+            tsType = typeMapping.getTsType();
+        }
+        return !isBlank(tsType) ? tsType.trim() : null;
+    }
+
+    /**
+     * Custom generator of the type mapping that applies to the type
+     */
+    @Nullable
+    public CustomValueGenerator findCustomGenerator(String typeName) {
+        TypeMapping typeMapping = typeMappings.find(typeName);
+        return typeMapping != null ? customGenerators.get(typeMapping) : null;
+    }
+
+    /**
+     * TypeScript type configured for the class, by type mapping first and package mapping second
+     */
+    @Nullable
+    public String findTsType(String qualifiedName) {
+        String mapped = findMappedTsType(qualifiedName);
+        if (mapped != null) {
+            return mapped;
+        }
+        PackageMapping packageMapping = packageMappings.find(qualifiedName);
+        if (packageMapping != null && !isBlank(packageMapping.getTsTargetType())) {
+            return packageMapping.getTsTargetType().trim();
+        }
+        return null;
+    }
+
+    /**
+     * Parsed JSON value pattern of the type mapping that applies to the type
+     */
+    @Nullable
+    public JsonValueTemplate findJsonTemplate(String typeName) {
+        TypeMapping typeMapping = typeMappings.find(typeName);
+        return typeMapping != null ? jsonTemplates.get(typeMapping) : null;
+    }
+
+    /**
+     * JSON target type ("string", "number", ...) configured for the class by package mapping
+     */
+    @Nullable
+    public String findJsonType(String qualifiedName) {
+        PackageMapping packageMapping = packageMappings.find(qualifiedName);
+        if (packageMapping != null && !isBlank(packageMapping.getJsonTargetType())) {
+            return packageMapping.getJsonTargetType().trim();
+        }
+        return null;
+    }
+
+    private static DateTimeFormatter compileFormatter(String pattern, ZoneId zone) {
+        if (!isBlank(pattern)) {
+            try {
+                return FORMATTERS.computeIfAbsent(pattern + '\u0000' + zone.getId(),
+                    key -> DateTimeFormatter.ofPattern(pattern).withZone(zone));
+            } catch (IllegalArgumentException e) {
+                // Fall back to the default pattern; the settings page reports the bad one
+            }
+        }
+        return compileFormatter(DEFAULT_DATE_FORMAT, zone);
+    }
+
+    private static ZoneId compileZone(String timeZone) {
+        if (!isBlank(timeZone)) {
+            try {
+                return ZoneId.of(timeZone.trim());
+            } catch (DateTimeException e) {
+                // Unknown zone ids fall back to UTC
+            }
+        }
+        return ZoneOffset.UTC;
+    }
+
+    private static PackageMapping copyOf(PackageMapping mapping) {
+        PackageMapping copy = new PackageMapping(mapping.getPackagePattern(),
+            mapping.getJsonTargetType(), mapping.getTsTargetType());
+        copy.setRecursive(mapping.isRecursive());
+        copy.setEnabled(mapping.isEnabled());
+        return copy;
+    }
+
+    private static TypeMapping copyOf(TypeMapping mapping) {
+        TypeMapping copy = new TypeMapping(mapping.getSourceType(), mapping.getJsonValuePattern(),
+            mapping.getTsType(), mapping.getDescription());
+        copy.setCustomGenerator(mapping.getCustomGenerator());
+        copy.setEnabled(mapping.isEnabled());
+        return copy;
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.trim().isEmpty();
+    }
+}
@@ -0,0 +1,128 @@
+package com.yourname.pojo2jsts.config;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A type mapping's JSON value pattern, parsed once into literal text and placeholder segments.
+ * Patterns are raw JSON, e.g. {@code "\"{{random_date}}\""} or {@code {{random_decimal}}};
+ * each placeholder records whether it sits inside a JSON string so the renderer knows to escape it.
+ * Unknown or unterminated placeholders are kept as literal text.
+ */
+public final class JsonValueTemplate {
+
+    /**
+     * Values a pattern can ask for
+     */
+    public enum Placeholder {
+        RANDOM_DATE("random_date"),
+        RANDOM_DATETIME("random_datetime"),
+        RANDOM_DATE_ONLY("random_date_only"),
+        RANDOM_TIME_ONLY("random_time_only"),
+        RANDOM_NUMBER("random_number"),
+        RANDOM_DECIMAL("random_decimal"),
+        RANDOM_INTEGER("random_integer"),
+        RANDOM_STRING("random_string"),
+        RANDOM_BOOLEAN("random_boolean"),
+        RANDOM_UUID("random_uuid"),
+        CURRENT_TIMESTAMP("current_timestamp");
+
+        private static final Map<String, Placeholder> BY_KEY = new HashMap<>();
+
+        static {
+            for (Placeholder placeholder : values()) {
+                BY_KEY.put(placeholder.key, placeholder);
+            }
+        }
+
+        private final String key;
+
+        Placeholder(String key) {
+            this.key = key;
+        }
+
+        public String getKey() { return key; }
+
+        static Placeholder of(String key) {
+            return BY_KEY.get(key);
+        }
+    }
+
+    /**
+     * Either literal JSON text or a placeholder
+     */
+    public static final class Segment {
+        private final String literal;
+        private final Placeholder placeholder;
+        private final boolean quoted;
+
+        private Segment(String literal, Placeholder placeholder, boolean quoted) {
+            this.literal = literal;
+            this.placeholder = placeholder;
+            this.quoted = quoted;
+        }
+
+        public boolean isLiteral() { return placeholder == null; }
+        public String getLiteral() { return literal; }
+        public Placeholder getPlaceholder() { return placeholder; }
+
+        /**
+         * Whether the placeholder is rendered inside a JSON string literal
+         */
+        public boolean isQuoted() { return quoted; }
+    }
+
+    private static final String OPEN = "{{";
+    private static final String CLOSE = "}}";
+
+    private final List<Segment> segments;
+
+    private JsonValueTemplate(List<Segment> segments) {
+        this.segments = Collections.unmodifiableList(segments);
+    }
+
+    public static JsonValueTemplate parse(String pattern) {
+        List<Segment> segments = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        boolean inString = false;
+        boolean escaped = false;
+        int i = 0;
+        while (i < pattern.length()) {
+            if (pattern.startsWith(OPEN, i)) {
+                int end = pattern.indexOf(CLOSE, i + OPEN.length());
+                Placeholder placeholder = end < 0 ? null
+                    : Placeholder.of(pattern.substring(i + OPEN.length(), end).trim());
+                if (placeholder != null) {
+                    if (literal.length() > 0) {
+                        segments.add(new Segment(literal.toString(), null, false));
+                        literal.setLength(0);
+                    }
+                    segments.add(new Segment(null, placeholder, inString));
+                    i = end + CLOSE.length();
+                    continue;
+                }
+            }
+
+            char c = pattern.charAt(i++);
+            literal.append(c);
+            if (escaped) {
+                escaped = false;
+            } else if (inString && c == '\\') {
+                escaped = true;
+            } else if (c == '"') {
+                inString = !inString;
+            }
+        }
+        if (literal.length() > 0) {
+            segments.add(new Segment(literal.toString(), null, false));
+        }
+        return new JsonValueTemplate(segments);
+    }
+
+    public List<Segment> getSegments() {
+        return segments;
+    }
+}
@@ -55,6 +55,9 @@ public class PackageMapping {
                 return className.startsWith(basePackage);
             } else {
                 // Only match direct package, not subpackages
+                if (!className.startsWith(basePackage)) {
+                    return false;
+                }
                 String remaining = className.substring(basePackage.length());
                 return !remaining.contains(".");
             }
@@ -0,0 +1,134 @@
+package com.yourname.pojo2jsts.config;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable lookup structure for package mappings, compiled once per settings change.
+ * Patterns are stored in a trie of package segments, so a lookup walks the class's package
+ * once instead of testing every mapping. When several mappings match, the one declared
+ * first wins, exactly as with a linear scan over {@link PackageMapping#matches(String)}.
+ */
+public final class PackageMappingIndex {
+
+    public static final PackageMappingIndex EMPTY = compile(Collections.emptyList());
+
+    private final Node root = new Node();
+    // Patterns like "com.exam*" cut through a segment and cannot live in the trie
+    private final List<Rule> fallbackRules = new ArrayList<>();
+
+    private PackageMappingIndex() {
+    }
+
+    public static PackageMappingIndex compile(List<PackageMapping> mappings) {
+        PackageMappingIndex index = new PackageMappingIndex();
+        for (int order = 0; order < mappings.size(); order++) {
+            PackageMapping mapping = mappings.get(order);
+            if (mapping != null && mapping.isEnabled() && mapping.getPackagePattern() != null) {
+                index.add(new Rule(mapping, order));
+            }
+        }
+        return index;
+    }
+
+    /**
+     * First enabled mapping, in declaration order, that applies to the class
+     */
+    @Nullable
+    public PackageMapping find(String className) {
+        if (className == null) {
+            return null;
+        }
+
+        Rule best = null;
+        for (Rule rule : fallbackRules) {
+            if (rule.mapping.matches(className)) {
+                best = rule;
+                break;
+            }
+        }
+
+        int packageEnd = className.lastIndexOf('.');
+        Node node = root;
+        int start = 0;
+        while (node != null) {
+            best = earlier(best, node.subtreeRule);
+            if (start > packageEnd) {
+                // Reached the class's own package
+                best = earlier(best, node.packageRule);
+                break;
+            }
+            int end = className.indexOf('.', start);
+            if (end > packageEnd || end < 0) {
+                end = packageEnd;
+            }
+            node = node.children.get(className.substring(start, end));
+            start = end + 1;
+        }
+        return best != null ? best.mapping : null;
+    }
+
+    private void add(Rule rule) {
+        String pattern = rule.mapping.getPackagePattern();
+        if (!pattern.endsWith("*")) {
+            if (pattern.isEmpty()) {
+                return;   // An empty exact pattern never matches
+            }
+            // Exact package: classes directly inside it
+            Node node = nodeFor(pattern);
+            node.packageRule = earlier(node.packageRule, rule);
+            return;
+        }
+
+        String base = pattern.substring(0, pattern.length() - 1);
+        if ((!base.isEmpty() && !base.endsWith(".")) || base.equals(".")) {
+            fallbackRules.add(rule);
+            return;
+        }
+
+        Node node = nodeFor(base.isEmpty() ? "" : base.substring(0, base.length() - 1));
+        if (rule.mapping.isRecursive()) {
+            node.subtreeRule = earlier(node.subtreeRule, rule);
+        } else {
+            node.packageRule = earlier(node.packageRule, rule);
+        }
+    }
+
+    private Node nodeFor(String packageName) {
+        Node node = root;
+        if (packageName.isEmpty()) {
+            return node;
+        }
+        for (String segment : packageName.split("\\.", -1)) {
+            node = node.children.computeIfAbsent(segment, key -> new Node());
+        }
+        return node;
+    }
+
+    private static Rule earlier(Rule current, Rule candidate) {
+        if (candidate == null) return current;
+        if (current == null) return candidate;
+        return candidate.order < current.order ? candidate : current;
+    }
+
+    private static final class Node {
+        final Map<String, Node> children = new HashMap<>();
+        Rule packageRule;   // classes directly in this package
+        Rule subtreeRule;   // classes in this package or any subpackage
+    }
+
+    private static final class Rule {
+        final PackageMapping mapping;
+        final int order;
+
+        Rule(PackageMapping mapping, int order) {
+            this.mapping = mapping;
+            this.order = order;
+        }
+    }
+}
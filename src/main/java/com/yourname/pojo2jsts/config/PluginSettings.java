@@ -1,11 +1,13 @@
 package com.yourname.pojo2jsts.config;
 
+import com.intellij.openapi.Disposable;
 import com.intellij.openapi.application.ApplicationManager;
 import com.intellij.openapi.components.PersistentStateComponent;
 import com.intellij.openapi.components.Service;
 import com.intellij.openapi.components.State;
 import com.intellij.openapi.components.Storage;
 import com.intellij.util.xmlb.XmlSerializerUtil;
+import com.yourname.pojo2jsts.generators.CustomValueGenerators;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -19,14 +21,22 @@ import java.util.*;
     name = "PluginSettings",
     storages = @Storage("pojo2js_ts.xml")
 )
-public final class PluginSettings implements PersistentStateComponent<PluginSettings> {
+public final class PluginSettings implements PersistentStateComponent<PluginSettings>, Disposable {
     
     // General settings
     private int maxRecursionDepth = 5;
     private int arrayMaxSize = 3;
     private boolean enableRandomValues = true;
     private boolean formatOutput = true;
+    private int jsonIndentSize = 2;
+    private boolean preserveInheritance = false;
     private boolean copyToClipboard = true;
+    private boolean useFixedSeed = false;
+    private long randomSeed = 0;
+    private boolean memoryMappedOutput = false;
+    private boolean compressOutput = false;
+    private int compressionLevel = 6;
+    private int exportChunkSize = 65536;
     
     // Date configuration
     private DateConfig dateConfig = new DateConfig();
@@ -37,6 +47,9 @@ public final class PluginSettings implements PersistentStateComponent<PluginSett
     // Type mappings
     private List<TypeMapping> typeMappings = new ArrayList<>();
     
+    // Snapshot handed to the generators, replaced only once a whole set of changes is in
+    private transient volatile GenerationProfile profile;
+    
     public PluginSettings() {
         initializeDefaultMappings();
     }
@@ -58,6 +71,22 @@ public final class PluginSettings implements PersistentStateComponent<PluginSett
         if (packageMappings.isEmpty() && typeMappings.isEmpty()) {
             initializeDefaultMappings();
         }
+        refreshProfile();
+    }
+    
+    /**
+     * Called once for the service instance only. The profile holds custom generator extensions,
+     * so it is recompiled whenever a plugin contributing one is loaded or unloaded; otherwise it
+     * would keep serving stale instances and pin the unloaded plugin's class loader.
+     */
+    @Override
+    public void initializeComponent() {
+        CustomValueGenerators.EP_NAME.addChangeListener(this::refreshProfile, this);
+    }
+    
+    @Override
+    public void dispose() {
+        // Only the parent of the extension point listener
     }
     
     private void initializeDefaultMappings() {
@@ -86,6 +115,34 @@ public final class PluginSettings implements PersistentStateComponent<PluginSett
         packageMappings.forEach(mapping -> mapping.setEnabled(false));
     }
     
+    /**
+     * Immutable snapshot of the settings as last published for the generators. Read it once per
+     * generation; setters do not touch it, so a half-applied change is never seen. The first
+     * snapshot is compiled on demand, so settings that never generate anything cost no compile.
+     */
+    public GenerationProfile getProfile() {
+        GenerationProfile current = profile;
+        if (current == null) {
+            synchronized (this) {
+                if (profile == null) {
+                    profile = GenerationProfile.compile(this);
+                }
+                current = profile;
+            }
+        }
+        return current;
+    }
+    
+    /**
+     * Compiles and publishes a new profile. Called once all changes of an apply, load or reset
+     * are in, including edits made in place on the date config.
+     */
+    public synchronized GenerationProfile refreshProfile() {
+        GenerationProfile compiled = GenerationProfile.compile(this);
+        profile = compiled;
+        return compiled;
+    }
+    
     // General settings getters/setters
     public int getMaxRecursionDepth() { return maxRecursionDepth; }
     public void setMaxRecursionDepth(int maxRecursionDepth) { 
@@ -103,9 +160,65 @@ public final class PluginSettings implements PersistentStateComponent<PluginSett
     public boolean isFormatOutput() { return formatOutput; }
     public void setFormatOutput(boolean formatOutput) { this.formatOutput = formatOutput; }
     
+    public int getJsonIndentSize() { return jsonIndentSize; }
+    public void setJsonIndentSize(int jsonIndentSize) { 
+        this.jsonIndentSize = Math.max(1, Math.min(jsonIndentSize, 8));
+    }
+    
+    /**
+     * Indent size the JSON generator should use; 0 means compact output
+     */
+    public int getEffectiveJsonIndentSize() {
+        return formatOutput ? jsonIndentSize : 0;
+    }
+    
+    /**
+     * Whether TypeScript interfaces extend their base interface instead of repeating inherited fields
+     */
+    public boolean isPreserveInheritance() { return preserveInheritance; }
+    public void setPreserveInheritance(boolean preserveInheritance) { this.preserveInheritance = preserveInheritance; }
+    
     public boolean isCopyToClipboard() { return copyToClipboard; }
     public void setCopyToClipboard(boolean copyToClipboard) { this.copyToClipboard = copyToClipboard; }
     
+    /**
+     * Whether every generation starts from {@link #getRandomSeed()}, making output reproducible
+     */
+    public boolean isUseFixedSeed() { return useFixedSeed; }
+    public void setUseFixedSeed(boolean useFixedSeed) { this.useFixedSeed = useFixedSeed; }
+    
+    public long getRandomSeed() { return randomSeed; }
+    public void setRandomSeed(long randomSeed) { this.randomSeed = randomSeed; }
+    
+    /**
+     * Whether file exports are written through memory-mapped regions instead of a direct buffer.
+     * Ignored on Windows, where a file cannot be truncated or deleted while it is still mapped.
+     */
+    public boolean isMemoryMappedOutput() { return memoryMappedOutput; }
+    public void setMemoryMappedOutput(boolean memoryMappedOutput) { this.memoryMappedOutput = memoryMappedOutput; }
+    
+    /**
+     * Whether file exports are streamed through gzip instead of written as plain text
+     */
+    public boolean isCompressOutput() { return compressOutput; }
+    public void setCompressOutput(boolean compressOutput) { this.compressOutput = compressOutput; }
+    
+    /**
+     * Deflate level for compressed exports, from 1 (fastest) to 9 (smallest)
+     */
+    public int getCompressionLevel() { return compressionLevel; }
+    public void setCompressionLevel(int compressionLevel) { 
+        this.compressionLevel = Math.max(1, Math.min(compressionLevel, 9));
+    }
+    
+    /**
+     * Records per chunk when a bulk export is generated in parallel
+     */
+    public int getExportChunkSize() { return exportChunkSize; }
+    public void setExportChunkSize(int exportChunkSize) { 
+        this.exportChunkSize = Math.max(1000, Math.min(exportChunkSize, 10_000_000));
+    }
+    
     // Date config
     public DateConfig getDateConfig() { return dateConfig; }
     public void setDateConfig(DateConfig dateConfig) { this.dateConfig = dateConfig; }
@@ -165,9 +278,18 @@ public final class PluginSettings implements PersistentStateComponent<PluginSett
         arrayMaxSize = 3;
         enableRandomValues = true;
         formatOutput = true;
+        jsonIndentSize = 2;
+        preserveInheritance = false;
         copyToClipboard = true;
+        useFixedSeed = false;
+        randomSeed = 0;
+        memoryMappedOutput = false;
+        compressOutput = false;
+        compressionLevel = 6;
+        exportChunkSize = 65536;
         dateConfig = new DateConfig();
         initializeDefaultMappings();
+        refreshProfile();
     }
     
     /**
@@ -0,0 +1,89 @@
+package com.yourname.pojo2jsts.config;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Immutable lookup structure for type mappings, compiled once per settings change.
+ * Resolves exactly like a linear scan over {@link TypeMapping#matches(String)}, first declared
+ * mapping winning, but from two hash maps: source types by their full text, and by every
+ * dot-suffix of a qualified source type (so "Date" finds "java.util.Date"). Each type name is
+ * resolved once and remembered, so repeated lookups are a single hash probe that allocates nothing.
+ */
+public final class TypeMappingIndex {
+
+    public static final TypeMappingIndex EMPTY = compile(Collections.emptyList());
+
+    private static final Rule NO_MAPPING = new Rule(null, Integer.MAX_VALUE);
+
+    private final Map<String, Rule> bySourceType = new HashMap<>();
+    private final Map<String, Rule> bySourceSuffix = new HashMap<>();
+    private final Map<String, Rule> resolved = new ConcurrentHashMap<>();
+
+    private TypeMappingIndex() {
+    }
+
+    public static TypeMappingIndex compile(List<TypeMapping> mappings) {
+        TypeMappingIndex index = new TypeMappingIndex();
+        for (int order = 0; order < mappings.size(); order++) {
+            TypeMapping mapping = mappings.get(order);
+            if (mapping == null || !mapping.isEnabled() || mapping.getSourceType() == null) {
+                continue;
+            }
+            Rule rule = new Rule(mapping, order);
+            String sourceType = mapping.getSourceType();
+            index.bySourceType.putIfAbsent(sourceType, rule);
+            // A qualified source type also answers to each shorter name it ends with
+            for (int dot = sourceType.indexOf('.'); dot >= 0; dot = sourceType.indexOf('.', dot + 1)) {
+                index.bySourceSuffix.putIfAbsent(sourceType.substring(dot + 1), rule);
+            }
+        }
+        return index;
+    }
+
+    /**
+     * First enabled mapping, in declaration order, that applies to the type name
+     */
+    @Nullable
+    public TypeMapping find(String typeName) {
+        if (typeName == null) {
+            return null;
+        }
+        Rule rule = resolved.get(typeName);
+        if (rule == null) {
+            rule = resolve(typeName);
+            resolved.putIfAbsent(typeName, rule);
+        }
+        return rule.mapping;
+    }
+
+    private Rule resolve(String typeName) {
+        Rule best = earlier(bySourceType.get(typeName), bySourceSuffix.get(typeName));
+        // A short source type matches any qualified name ending with it
+        for (int dot = typeName.indexOf('.'); dot >= 0; dot = typeName.indexOf('.', dot + 1)) {
+            best = earlier(best, bySourceType.get(typeName.substring(dot + 1)));
+        }
+        return best != null ? best : NO_MAPPING;
+    }
+
+    private static Rule earlier(Rule current, Rule candidate) {
+        if (candidate == null) return current;
+        if (current == null) return candidate;
+        return candidate.order < current.order ? candidate : current;
+    }
+
+    private static final class Rule {
+        final TypeMapping mapping;
+        final int order;
+
+        Rule(TypeMapping mapping, int order) {
+            this.mapping = mapping;
+            this.order = order;
+        }
+    }
+}
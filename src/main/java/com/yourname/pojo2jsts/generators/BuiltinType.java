@@ -0,0 +1,83 @@
+package com.yourname.pojo2jsts.generators;
+
+import com.intellij.psi.PsiPrimitiveType;
+import com.intellij.psi.PsiType;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Precomputed dispatch table for the Java types both generators know how to
+ * render directly. Lookup is a single hash probe on the canonical type name,
+ * with a fast path for primitives that skips canonical-text construction.
+ */
+public enum BuiltinType {
+    STRING("string", "java.lang.String"),
+    CHAR("string", "java.lang.Character", "char"),
+    BYTE("number", "java.lang.Byte", "byte"),
+    SHORT("number", "java.lang.Short", "short"),
+    INT("number", "java.lang.Integer", "int"),
+    LONG("number", "java.lang.Long", "long"),
+    FLOAT("number", "java.lang.Float", "float"),
+    DOUBLE("number", "java.lang.Double", "double"),
+    BOOLEAN("boolean", "java.lang.Boolean", "boolean"),
+    BIG_DECIMAL("number", "java.math.BigDecimal"),
+    BIG_INTEGER("number", "java.math.BigInteger"),
+    DATE("string", "java.util.Date"),
+    LOCAL_DATE_TIME("string", "java.time.LocalDateTime"),
+    LOCAL_DATE("string", "java.time.LocalDate"),
+    LOCAL_TIME("string", "java.time.LocalTime"),
+    INSTANT("string", "java.time.Instant"),
+    UUID("string", "java.util.UUID");
+
+    private static final Map<String, BuiltinType> BY_NAME = new HashMap<>();
+    private static final Map<String, BuiltinType> BY_PRIMITIVE = new HashMap<>();
+
+    static {
+        for (BuiltinType builtin : values()) {
+            String qualifiedName = builtin.qualifiedName;
+            BY_NAME.put(qualifiedName, builtin);
+            // Unresolved types report their simple name as canonical text
+            BY_NAME.put(qualifiedName.substring(qualifiedName.lastIndexOf('.') + 1), builtin);
+            if (builtin.primitiveName != null) {
+                BY_NAME.put(builtin.primitiveName, builtin);
+                BY_PRIMITIVE.put(builtin.primitiveName, builtin);
+            }
+        }
+    }
+
+    private final String tsType;
+    private final String qualifiedName;
+    private final String primitiveName;
+
+    BuiltinType(String tsType, String qualifiedName) {
+        this(tsType, qualifiedName, null);
+    }
+
+    BuiltinType(String tsType, String qualifiedName, String primitiveName) {
+        this.tsType = tsType;
+        this.qualifiedName = qualifiedName;
+        this.primitiveName = primitiveName;
+    }
+
+    public String getTsType() { return tsType; }
+    public String getQualifiedName() { return qualifiedName; }
+
+    /**
+     * Resolves a PSI type to its builtin handler, or null when the type needs structural handling
+     */
+    public static BuiltinType of(PsiType type) {
+        if (type == null) return null;
+        if (type instanceof PsiPrimitiveType) {
+            return BY_PRIMITIVE.get(((PsiPrimitiveType) type).getName());
+        }
+        return BY_NAME.get(type.getCanonicalText());
+    }
+
+    /**
+     * Resolves a qualified, simple or primitive type name
+     */
+    public static BuiltinType of(String typeName) {
+        return typeName != null ? BY_NAME.get(typeName) : null;
+    }
+}
@@ -0,0 +1,335 @@
+package com.yourname.pojo2jsts.generators;
+
+import com.yourname.pojo2jsts.config.GenerationProfile;
+import com.yourname.pojo2jsts.model.ClassModel;
+import com.yourname.pojo2jsts.model.GenerationProgress;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.ZoneOffset;
+import java.util.Locale;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongConsumer;
+import java.util.logging.Logger;
+
+/**
+ * Writes large numbers of random instances of one class as newline-delimited JSON (NDJSON), one
+ * compact record per line. The model is compiled into a {@link JsonGenerator.Plan} once and the
+ * records are streamed into an {@link OutputSink} as they are generated, so memory use does not
+ * depend on the record count. Exports can be gzip-compressed on the fly. Every record draws from
+ * a random stream derived from the seed and its index, so large exports can be generated as
+ * independent chunks in parallel and still come out byte for byte the same; with a fixed seed the
+ * same file is produced every time.
+ */
+public class BulkJsonExporter {
+
+    private static final Logger LOGGER = Logger.getLogger(BulkJsonExporter.class.getName());
+
+    // Records between two progress updates or cancellation checks
+    private static final int BATCH_SIZE = 4096;
+    private static final long PROGRESS_INTERVAL_MS = 100;
+
+    private final GenerationProfile profile;
+    private final Clock clock;
+    private final int parallelism;
+    private final int chunkSize;
+
+    public BulkJsonExporter(GenerationProfile profile) {
+        this(profile, Clock.systemUTC());
+    }
+
+    /**
+     * @param clock read once per export; all dates of that file are relative to it
+     */
+    public BulkJsonExporter(GenerationProfile profile, Clock clock) {
+        this(profile, clock, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * @param parallelism worker threads for large exports; 1 writes on the calling thread only
+     */
+    public BulkJsonExporter(GenerationProfile profile, Clock clock, int parallelism) {
+        this.profile = profile;
+        this.clock = clock;
+        this.parallelism = Math.max(1, parallelism);
+        this.chunkSize = Math.max(1, profile.getExportChunkSize());
+    }
+
+    /**
+     * Result of one export
+     */
+    public static final class Stats {
+        private final long records;
+        private final long bytes;
+        private final long elapsedNanos;
+
+        Stats(long records, long bytes, long elapsedNanos) {
+            this.records = records;
+            this.bytes = bytes;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        public long getRecords() { return records; }
+        public long getBytes() { return bytes; }
+        public long getElapsedNanos() { return elapsedNanos; }
+
+        public double getRecordsPerSecond() {
+            return elapsedNanos > 0 ? records * 1e9 / elapsedNanos : records;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT, "%,d records (%,.1f MB) in %,.2f s, %,.0f records/s",
+                records, bytes / (1024.0 * 1024.0), elapsedNanos / 1e9, getRecordsPerSecond());
+        }
+    }
+
+    /**
+     * Writes {@code count} records of the model to {@code target}, replacing any existing file.
+     * Large exports are split into chunks generated in parallel; the file is identical either way.
+     * The records go to a part file next to the target that is moved over it once complete, so a
+     * cancelled or failed export leaves the target untouched.
+     */
+    public Stats export(ClassModel model, long count, Path target, GenerationProgress progress) throws IOException {
+        if (count < 0) {
+            throw new IllegalArgumentException("Record count must not be negative: " + count);
+        }
+        long start = System.nanoTime();
+        Job job = new Job(model);
+        progress.setText("Writing " + String.format(Locale.ROOT, "%,d", count) + " JSON records...");
+        Path partial = Files.createTempFile(target.toAbsolutePath().getParent(), target.getFileName() + ".", ".part");
+        try {
+            if (parallelism > 1 && count > chunkSize) {
+                exportParallel(job, count, partial, progress);
+            } else {
+                writeRange(job, 0, count, partial, done -> progress.emitted(done, count));
+            }
+            Files.move(partial, target, StandardCopyOption.REPLACE_EXISTING);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            Files.deleteIfExists(partial);
+        }
+        return new Stats(count, Files.size(target), System.nanoTime() - start);
+    }
+
+    /**
+     * Streams {@code count} records of the model into {@code out} on the calling thread
+     */
+    public void export(ClassModel model, long count, Appendable out, GenerationProgress progress) {
+        writeRange(new Job(model), 0, count, out, done -> progress.emitted(done, count));
+    }
+
+    /**
+     * Generates the chunks on a fork-join pool, each into its own part file next to the target,
+     * while the calling thread reports progress and watches for cancellation. The parts are then
+     * appended to the target in chunk order with {@link FileChannel#transferTo}, so the records
+     * never pass through the heap a second time.
+     */
+    private void exportParallel(Job job, long count, Path target, GenerationProgress progress) throws IOException {
+        int chunks = (int) ((count + chunkSize - 1) / chunkSize);
+        Path[] parts = new Path[chunks];
+        AtomicLong written = new AtomicLong();
+        AtomicBoolean cancelled = new AtomicBoolean();
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        boolean completed = false;
+        try {
+            ForkJoinTask<Void> task = pool.submit(new ChunkTask(job, count, target, parts, written, cancelled, 0, chunks));
+            awaitChunks(task, written, count, progress);
+            progress.setText("Assembling " + target.getFileName() + "...");
+            assemble(parts, target);
+            completed = true;
+        } finally {
+            pool.shutdown();
+            if (!completed) {
+                // Let the workers notice and stop before their part files are removed
+                cancelled.set(true);
+                awaitTermination(pool);
+            }
+            deleteParts(parts);
+        }
+    }
+
+    private static void awaitChunks(ForkJoinTask<Void> task, AtomicLong written, long count,
+                                    GenerationProgress progress) throws IOException {
+        while (true) {
+            try {
+                task.get(PROGRESS_INTERVAL_MS, TimeUnit.MILLISECONDS);
+                return;
+            } catch (TimeoutException e) {
+                progress.emitted(written.get(), count);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while generating JSON records");
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof UncheckedIOException) {
+                    throw ((UncheckedIOException) cause).getCause();
+                }
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                throw new IOException(cause);
+            }
+        }
+    }
+
+    private static void assemble(Path[] parts, Path target) throws IOException {
+        try (FileChannel out = FileChannel.open(target, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            for (int i = 0; i < parts.length; i++) {
+                try (FileChannel in = FileChannel.open(parts[i], StandardOpenOption.READ)) {
+                    long size = in.size();
+                    for (long position = 0; position < size; ) {
+                        position += in.transferTo(position, size - position, out);
+                    }
+                }
+                Files.delete(parts[i]);
+                parts[i] = null;
+            }
+        }
+    }
+
+    private static void awaitTermination(ForkJoinPool pool) {
+        try {
+            pool.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void deleteParts(Path[] parts) {
+        for (Path part : parts) {
+            if (part != null) {
+                try {
+                    Files.deleteIfExists(part);
+                } catch (IOException e) {
+                    LOGGER.warning("Could not delete part file " + part + ": " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    private void writeRange(Job job, long first, long count, Path file, LongConsumer onWritten) {
+        try (OutputSink out = openSink(file)) {
+            writeRange(job, first, count, out, onWritten);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * With compression on, every file is one gzip member, so the concatenated part files of a
+     * parallel export form a valid multi-member gzip file and the chunks compress on all cores
+     */
+    private OutputSink openSink(Path file) throws IOException {
+        if (profile.isCompressOutput()) {
+            return OutputSink.toGzipFile(file, profile.getCompressionLevel());
+        }
+        return OutputSink.toFile(file, profile.isMemoryMappedOutput());
+    }
+
+    /**
+     * Writes records {@code first} to {@code first + count - 1} in batches, passing the number of
+     * records written so far by this range after each batch
+     */
+    private static void writeRange(Job job, long first, long count, Appendable out, LongConsumer onWritten) {
+        for (long done = 0; done < count; done += BATCH_SIZE) {
+            long batch = Math.min(BATCH_SIZE, count - done);
+            job.generator.writeRecords(job.plan, out, job.random, first + done, batch, GenerationProgress.NONE);
+            onWritten.accept(done + batch);
+        }
+    }
+
+    /**
+     * What every chunk of one export shares: the compiled plan, the root random stream that each
+     * record derives its own stream from, and a clock fixed at the start of the export
+     */
+    private final class Job {
+        final JsonGenerator generator = new JsonGenerator(profile, Clock.fixed(clock.instant(), ZoneOffset.UTC));
+        final JsonGenerator.Plan plan;
+        final RandomValueGenerator random = profile.isFixedSeed()
+            ? new RandomValueGenerator(profile.getRandomSeed())
+            : new RandomValueGenerator();
+
+        Job(ClassModel model) {
+            this.plan = generator.compile(model);
+        }
+    }
+
+    /**
+     * Splits a range of chunk indexes in halves until a single chunk is left, which it writes
+     * to its own part file
+     */
+    private final class ChunkTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final Job job;
+        private final long count;
+        private final Path target;
+        private final Path[] parts;
+        private final AtomicLong written;
+        private final AtomicBoolean cancelled;
+        private final int from;
+        private final int to;
+
+        ChunkTask(Job job, long count, Path target, Path[] parts, AtomicLong written,
+                  AtomicBoolean cancelled, int from, int to) {
+            this.job = job;
+            this.count = count;
+            this.target = target;
+            this.parts = parts;
+            this.written = written;
+            this.cancelled = cancelled;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > 1) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new ChunkTask(job, count, target, parts, written, cancelled, from, middle),
+                    new ChunkTask(job, count, target, parts, written, cancelled, middle, to));
+                return;
+            }
+            if (cancelled.get()) {
+                return;
+            }
+            long first = (long) from * chunkSize;
+            long records = Math.min(chunkSize, count - first);
+            try {
+                Path directory = target.toAbsolutePath().getParent();
+                parts[from] = Files.createTempFile(directory, target.getFileName() + ".", ".part");
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            long[] reported = new long[1];
+            writeRange(job, first, records, parts[from], done -> {
+                if (cancelled.get()) {
+                    throw new CancellationException();
+                }
+                written.addAndGet(done - reported[0]);
+                reported[0] = done;
+            });
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.yourname.pojo2jsts.generators;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Plugs custom sample values into the generators for the types of a type mapping whose
+ * "custom generator" names the implementing class. Implementations are registered through the
+ * {@code com.yourname.pojo2js_ts.valueGenerator} extension point, instantiated once per settings
+ * snapshot and shared by concurrent generations, so they must be stateless or thread-safe.
+ */
+public interface CustomValueGenerator {
+
+    /**
+     * Writes exactly one JSON value for a field of the mapped type
+     * @param random the generation's random source
+     */
+    void writeValue(JsonWriter writer, RandomValueGenerator random);
+
+    /**
+     * TypeScript type for the mapped type, or null to use the mapping's own TypeScript type
+     */
+    @Nullable
+    default String getTsType() {
+        return null;
+    }
+}
@@ -0,0 +1,69 @@
+package com.yourname.pojo2jsts.generators;
+
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.extensions.ExtensionPointName;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Resolves custom generator class names to instances. Registered extensions are matched by
+ * class name; other names are loaded through the plugin's class loader and instantiated with
+ * their no-arg constructor. Resolution happens when settings are compiled, never per field.
+ */
+public final class CustomValueGenerators {
+
+    public static final ExtensionPointName<CustomValueGenerator> EP_NAME =
+        ExtensionPointName.create("com.yourname.pojo2js_ts.valueGenerator");
+
+    private static final Logger LOGGER = Logger.getLogger(CustomValueGenerators.class.getName());
+
+    private CustomValueGenerators() {
+    }
+
+    /**
+     * Instances for the given class names; names that cannot be resolved are left out
+     */
+    public static Map<String, CustomValueGenerator> resolve(Collection<String> classNames) {
+        Map<String, CustomValueGenerator> resolved = new HashMap<>();
+        if (classNames.isEmpty()) {
+            return resolved;
+        }
+
+        if (ApplicationManager.getApplication() != null) {
+            for (CustomValueGenerator extension : EP_NAME.getExtensionList()) {
+                String className = extension.getClass().getName();
+                if (classNames.contains(className)) {
+                    resolved.putIfAbsent(className, extension);
+                }
+            }
+        }
+
+        for (String className : classNames) {
+            if (!resolved.containsKey(className)) {
+                CustomValueGenerator generator = instantiate(className);
+                if (generator != null) {
+                    resolved.put(className, generator);
+                }
+            }
+        }
+        return resolved;
+    }
+
+    private static CustomValueGenerator instantiate(String className) {
+        try {
+            Class<?> type = Class.forName(className, true, CustomValueGenerator.class.getClassLoader());
+            if (!CustomValueGenerator.class.isAssignableFrom(type)) {
+                LOGGER.warning("Custom generator " + className + " does not implement CustomValueGenerator");
+                return null;
+            }
+            return (CustomValueGenerator) type.getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            LOGGER.log(Level.WARNING, "Cannot load custom generator " + className, e);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,372 @@
+package com.yourname.pojo2jsts.generators;
+
+import com.intellij.lang.java.JavaLanguage;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.components.Service;
+import com.intellij.openapi.progress.ProcessCanceledException;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.progress.util.ProgressIndicatorBase;
+import com.intellij.openapi.project.Project;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.util.PsiModificationTracker;
+import com.intellij.util.concurrency.AppExecutorUtil;
+import com.yourname.pojo2jsts.config.GenerationProfile;
+import com.yourname.pojo2jsts.config.PluginSettings;
+import com.yourname.pojo2jsts.model.GenerationProgress;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+/**
+ * Runs generations on a small bounded pool shared by the whole IDE.
+ * Requests that are still running are coalesced: an identical request (same class, output
+ * kind, settings and PSI state) joins the running one, while a request for the same class
+ * and kind with a different key supersedes it and the stale run is cancelled.
+ */
+@Service
+public final class GenerationService {
+
+    public enum OutputKind { JSON, TYPESCRIPT }
+
+    private static final Logger LOGGER = Logger.getLogger(GenerationService.class.getName());
+    private static final long POLL_INTERVAL_MS = 50;
+    // Generations a batch keeps in flight at once
+    private static final int BATCH_WINDOW = 16;
+
+    private final ExecutorService executor;
+    private final Supplier<ProgressIndicator> indicators;
+    private final BiFunction<ProgressIndicator, Supplier<String>, String> runner;
+    private final Map<Slot, PendingGeneration> inFlight = new HashMap<>();   // guarded by this
+
+    public GenerationService() {
+        this(AppExecutorUtil.createBoundedApplicationPoolExecutor("POJO to JSON/TS Generation",
+            Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() / 2))));
+    }
+
+    GenerationService(ExecutorService executor) {
+        this(executor, ProgressIndicatorBase::new,
+            (indicator, work) -> ProgressManager.getInstance().runProcess(work::get, indicator));
+    }
+
+    /**
+     * @param indicators creates the indicator each shared run reports to and is cancelled through
+     * @param runner runs a generation with the indicator installed for the current thread
+     */
+    GenerationService(ExecutorService executor, Supplier<ProgressIndicator> indicators,
+                      BiFunction<ProgressIndicator, Supplier<String>, String> runner) {
+        this.executor = executor;
+        this.indicators = indicators;
+        this.runner = runner;
+    }
+
+    public static GenerationService getInstance() {
+        return ApplicationManager.getApplication().getService(GenerationService.class);
+    }
+
+    /**
+     * Generates the output for the class on the shared pool and waits for it
+     * @see #await(PendingGeneration, ProgressIndicator)
+     */
+    public String generate(@NotNull Project project, @NotNull PsiClass psiClass, @NotNull OutputKind kind,
+                           @NotNull ProgressIndicator indicator) {
+        return await(submit(project, psiClass, kind), indicator);
+    }
+
+    /**
+     * Starts a generation, or joins the identical one that is already running
+     */
+    public PendingGeneration submit(@NotNull Project project, @NotNull PsiClass psiClass, @NotNull OutputKind kind) {
+        return submit(project, psiClass, kind, false);
+    }
+
+    /**
+     * @param failOnError whether a failed generation completes exceptionally instead of with the
+     *                    error text the generators render for the clipboard
+     */
+    private PendingGeneration submit(Project project, PsiClass psiClass, OutputKind kind, boolean failOnError) {
+        String qualifiedName = ReadAction.compute(psiClass::getQualifiedName);
+        long modificationCount = PsiModificationTracker.getInstance(project)
+                .forLanguage(JavaLanguage.INSTANCE)
+                .getModificationCount();
+        // One snapshot for the whole run; later settings changes get a new version and a new run
+        GenerationProfile profile = PluginSettings.getInstance().getProfile();
+        RequestKey key = new RequestKey(project, qualifiedName, kind, failOnError, profile.getVersion(),
+            modificationCount);
+
+        if (kind == OutputKind.JSON) {
+            JsonGenerator generator = new JsonGenerator(profile);
+            if (failOnError) {
+                return submit(key, indicator -> {
+                    StringBuilder out = new StringBuilder();
+                    generator.generate(psiClass, project, out, GenerationProgress.of(indicator));
+                    return out.toString();
+                });
+            }
+            return submit(key, indicator -> generator.generate(psiClass, project, indicator));
+        }
+        TypeScriptGenerator generator = new TypeScriptGenerator(profile);
+        if (failOnError) {
+            return submit(key, indicator -> {
+                StringBuilder out = new StringBuilder();
+                generator.generate(psiClass, project, out, GenerationProgress.of(indicator));
+                return out.toString();
+            });
+        }
+        return submit(key, indicator -> generator.generate(psiClass, project, indicator));
+    }
+
+    synchronized PendingGeneration submit(RequestKey key, Function<ProgressIndicator, String> work) {
+        PendingGeneration running = inFlight.get(key.slot);
+        if (running != null) {
+            if (running.key.equals(key) && !running.future.isDone()) {
+                running.waiters.incrementAndGet();
+                return running;
+            }
+            LOGGER.fine("Superseding stale generation for " + key.slot.qualifiedName);
+            running.cancel();
+        }
+
+        PendingGeneration generation = new PendingGeneration(key, indicators.get());
+        generation.waiters.incrementAndGet();
+        inFlight.put(key.slot, generation);
+        executor.execute(() -> run(generation, work));
+        return generation;
+    }
+
+    private void run(PendingGeneration generation, Function<ProgressIndicator, String> work) {
+        try {
+            if (!generation.indicator.isCanceled()) {
+                String result = runner.apply(generation.indicator, () -> work.apply(generation.indicator));
+                generation.future.complete(result);
+            }
+        } catch (ProcessCanceledException e) {
+            // Superseded or abandoned by every waiter
+        } catch (Throwable t) {
+            generation.future.completeExceptionally(t);
+        } finally {
+            generation.future.cancel(false);
+            synchronized (this) {
+                inFlight.remove(generation.key.slot, generation);
+            }
+        }
+    }
+
+    /**
+     * Waits for the generation while mirroring its progress onto {@code indicator}.
+     * Cancelling the indicator only stops the shared run once no other caller waits for it;
+     * a run superseded by a newer request ends the wait with {@link ProcessCanceledException}.
+     */
+    public String await(@NotNull PendingGeneration generation, @NotNull ProgressIndicator indicator) {
+        indicator.setIndeterminate(false);
+        return await(generation, indicator, true);
+    }
+
+    private String await(PendingGeneration generation, ProgressIndicator indicator, boolean mirrorProgress) {
+        try {
+            while (true) {
+                indicator.checkCanceled();
+                try {
+                    return generation.future.get(POLL_INTERVAL_MS, TimeUnit.MILLISECONDS);
+                } catch (TimeoutException e) {
+                    if (mirrorProgress) {
+                        generation.mirrorTo(indicator);
+                    }
+                }
+            }
+        } catch (ProcessCanceledException e) {
+            generation.release();
+            throw e;
+        } catch (CancellationException e) {
+            throw new ProcessCanceledException();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            generation.release();
+            throw new ProcessCanceledException(e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+            if (cause instanceof Error) throw (Error) cause;
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    /**
+     * Generates the output for every class on the shared pool and hands each result to
+     * {@code consumer} on the calling thread, in list order
+     * @see #generateAll(List, Function, ProgressIndicator, BiConsumer)
+     */
+    public int generateAll(@NotNull Project project, @NotNull List<PsiClass> classes, @NotNull OutputKind kind,
+                           @NotNull ProgressIndicator indicator, @NotNull BiConsumer<PsiClass, String> consumer) {
+        // Failures must throw here, or their error text would be written out as a result
+        return generateAll(classes, psiClass -> submit(project, psiClass, kind, true), indicator, consumer);
+    }
+
+    /**
+     * Keeps up to {@link #BATCH_WINDOW} generations in flight, so the pool stays busy while
+     * finished results are consumed in order and never pile up in memory. The fraction of
+     * {@code indicator} follows the number of consumed items; cancelling it abandons every
+     * pending generation. An item whose generation fails or is superseded is logged and skipped.
+     * @return the number of skipped items
+     */
+    <T> int generateAll(List<T> items, Function<T, PendingGeneration> submit,
+                        ProgressIndicator indicator, BiConsumer<T, String> consumer) {
+        indicator.setIndeterminate(false);
+        Deque<PendingGeneration> pending = new ArrayDeque<>();
+        int submitted = 0;
+        int failed = 0;
+        try {
+            for (int i = 0; i < items.size(); i++) {
+                while (submitted < items.size() && pending.size() < BATCH_WINDOW) {
+                    indicator.checkCanceled();
+                    pending.add(submit.apply(items.get(submitted++)));
+                }
+                PendingGeneration generation = pending.poll();
+                String result;
+                try {
+                    result = await(generation, indicator, false);
+                } catch (ProcessCanceledException e) {
+                    if (indicator.isCanceled()) {
+                        throw e;
+                    }
+                    result = null;
+                } catch (RuntimeException | StackOverflowError e) {
+                    LOGGER.warning("Generation failed for " + generation.key.slot.qualifiedName + ": " + e.getMessage());
+                    result = null;
+                }
+                if (result != null) {
+                    consumer.accept(items.get(i), result);
+                } else {
+                    failed++;
+                }
+                indicator.setFraction((i + 1) / (double) items.size());
+            }
+            return failed;
+        } finally {
+            // Only left over when cancelled or the consumer failed
+            for (PendingGeneration generation : pending) {
+                generation.release();
+            }
+        }
+    }
+
+    /**
+     * A generation running on the pool, possibly shared by several callers
+     */
+    public static final class PendingGeneration {
+        private final RequestKey key;
+        private final CompletableFuture<String> future = new CompletableFuture<>();
+        private final ProgressIndicator indicator;
+        private final AtomicInteger waiters = new AtomicInteger();
+
+        private PendingGeneration(RequestKey key, ProgressIndicator indicator) {
+            this.key = key;
+            this.indicator = indicator;
+        }
+
+        public CompletableFuture<String> getFuture() {
+            return future;
+        }
+
+        private void mirrorTo(ProgressIndicator target) {
+            String text = indicator.getText();
+            if (text != null) {
+                target.setText(text);
+            }
+            target.setFraction(indicator.getFraction());
+        }
+
+        private void release() {
+            if (waiters.decrementAndGet() <= 0) {
+                cancel();
+            }
+        }
+
+        private void cancel() {
+            indicator.cancel();
+            future.cancel(false);
+        }
+    }
+
+    /**
+     * Identity of a request: the slot plus everything that makes two outputs interchangeable
+     */
+    static final class RequestKey {
+        private final Slot slot;
+        private final Object settings;
+        private final long modificationCount;
+
+        RequestKey(Project project, String qualifiedName, OutputKind kind, Object settings, long modificationCount) {
+            this(project, qualifiedName, kind, false, settings, modificationCount);
+        }
+
+        RequestKey(Project project, String qualifiedName, OutputKind kind, boolean failOnError, Object settings,
+                   long modificationCount) {
+            this.slot = new Slot(project, qualifiedName, kind, failOnError);
+            this.settings = settings;
+            this.modificationCount = modificationCount;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof RequestKey)) return false;
+            RequestKey that = (RequestKey) o;
+            return modificationCount == that.modificationCount &&
+                   slot.equals(that.slot) &&
+                   Objects.equals(settings, that.settings);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(slot, settings, modificationCount);
+        }
+    }
+
+    /**
+     * At most one generation runs per project, class, output kind and error mode. Batch runs,
+     * which fail on error, never supersede or get superseded by a single-class run of the same class.
+     */
+    private static final class Slot {
+        private final Project project;
+        private final String qualifiedName;
+        private final OutputKind kind;
+        private final boolean failOnError;
+
+        Slot(Project project, String qualifiedName, OutputKind kind, boolean failOnError) {
+            this.project = project;
+            this.qualifiedName = qualifiedName;
+            this.kind = kind;
+            this.failOnError = failOnError;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Slot)) return false;
+            Slot that = (Slot) o;
+            return project == that.project &&
+                   kind == that.kind &&
+                   failOnError == that.failOnError &&
+                   Objects.equals(qualifiedName, that.qualifiedName);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(System.identityHashCode(project), qualifiedName, kind, failOnError);
+        }
+    }
+}
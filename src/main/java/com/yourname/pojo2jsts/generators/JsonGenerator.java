@@ -1,43 +1,89 @@
 package com.yourname.pojo2jsts.generators;
 
+import com.intellij.openapi.progress.ProcessCanceledException;
+import com.intellij.openapi.progress.ProgressIndicator;
 import com.intellij.openapi.project.Project;
-import com.intellij.psi.*;
-import com.intellij.psi.util.PsiTypesUtil;
-import com.intellij.psi.util.PsiUtil;
+import com.intellij.psi.PsiClass;
+import com.yourname.pojo2jsts.config.GenerationProfile;
+import com.yourname.pojo2jsts.config.JsonValueTemplate;
+import com.yourname.pojo2jsts.model.ClassModel;
+import com.yourname.pojo2jsts.model.FieldModel;
+import com.yourname.pojo2jsts.model.GenerationProgress;
+import com.yourname.pojo2jsts.model.TypeModelCache;
+import com.yourname.pojo2jsts.model.TypeRef;
+import org.jetbrains.annotations.Nullable;
 
+import java.time.Clock;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Logger;
 import java.util.logging.Level;
 
+/**
+ * Emits sample JSON from a class model. Instances hold only configuration, an immutable
+ * {@link GenerationProfile}; all traversal state lives in a per-call {@link Run}, so one
+ * generator can serve concurrent requests. For bulk output a model is compiled once into a
+ * {@link Plan} and written as many records as needed.
+ */
 public class JsonGenerator {
     
     private static final Logger LOGGER = Logger.getLogger(JsonGenerator.class.getName());
-    private final RandomValueGenerator randomValueGenerator = new RandomValueGenerator();
-    private final Map<String, Integer> visitedClasses = new ConcurrentHashMap<>();
-    private final Set<String> processingClasses = new HashSet<>();
-    private int recursionDepth = 0;
-    private static final int MAX_RECURSION_DEPTH = 8;
     private static final int MAX_SAME_CLASS_VISITS = 3;
-    private static final int MAX_PROCESSING_TIME_MS = 10000; // 10 seconds timeout
-    private long startTime;
+    private final GenerationProfile profile;
+    private final int indentSize;
+    private final Clock clock;
+    
+    public JsonGenerator() {
+        this(GenerationProfile.DEFAULT);
+    }
+    
+    /**
+     * @param indentSize spaces per nesting level, or 0 for compact single-line output
+     */
+    public JsonGenerator(int indentSize) {
+        this(GenerationProfile.DEFAULT, indentSize, Clock.systemUTC());
+    }
+    
+    /**
+     * @param profile limits, date format, mappings and indent size to generate with
+     */
+    public JsonGenerator(GenerationProfile profile) {
+        this(profile, Clock.systemUTC());
+    }
+    
+    /**
+     * @param clock read once per generation; all dates of that output are relative to it
+     */
+    public JsonGenerator(GenerationProfile profile, Clock clock) {
+        this(profile, profile.getJsonIndentSize(), clock);
+    }
+    
+    private JsonGenerator(GenerationProfile profile, int indentSize, Clock clock) {
+        this.profile = profile;
+        this.indentSize = Math.max(0, indentSize);
+        this.clock = clock;
+    }
     
     public String generate(PsiClass psiClass, Project project) {
+        return generate(psiClass, project, (ProgressIndicator) null);
+    }
+    
+    /**
+     * Generates the JSON, reporting progress to and honouring cancellation of the given indicator
+     */
+    public String generate(PsiClass psiClass, Project project, @Nullable ProgressIndicator indicator) {
         if (psiClass == null || project == null) {
             LOGGER.warning("Null input provided to JsonGenerator");
             return "{\n  \"error\": \"Invalid input: psiClass or project is null\"\n}";
         }
         
-        // Reset state for each generation
-        visitedClasses.clear();
-        processingClasses.clear();
-        recursionDepth = 0;
-        startTime = System.currentTimeMillis();
-        
         try {
-            LOGGER.fine("Starting JSON generation for class: " + psiClass.getQualifiedName());
-            String json = generateJsonObject(psiClass, project);
-            return formatJson(json);
+            StringBuilder json = new StringBuilder();
+            generate(psiClass, project, json, GenerationProgress.of(indicator));
+            return json.toString();
+        } catch (ProcessCanceledException e) {
+            throw e;
         } catch (StackOverflowError e) {
             LOGGER.severe("Stack overflow during JSON generation: " + e.getMessage());
             return "{\n  \"error\": \"Stack overflow - circular reference detected\"\n}";
@@ -47,309 +93,444 @@ public class JsonGenerator {
         } catch (Exception e) {
             LOGGER.log(Level.WARNING, "Error during JSON generation", e);
             return "{\n  \"error\": \"Failed to generate JSON: " + sanitizeErrorMessage(e.getMessage()) + "\"\n}";
-        } finally {
-            // Cleanup
-            visitedClasses.clear();
-            processingClasses.clear();
         }
     }
     
-    private String generateJsonObject(PsiClass psiClass, Project project) {
-        if (psiClass == null) return "null";
-        
-        // Check timeout
-        if (System.currentTimeMillis() - startTime > MAX_PROCESSING_TIME_MS) {
-            LOGGER.warning("JSON generation timeout exceeded");
-            return "{\"error\": \"Generation timeout\"}";
+    /**
+     * Streams the JSON for the given class into {@code out} in a single pass
+     */
+    public void generate(PsiClass psiClass, Project project, Appendable out) {
+        generate(psiClass, project, out, GenerationProgress.NONE);
+    }
+    
+    public void generate(PsiClass psiClass, Project project, Appendable out, GenerationProgress progress) {
+        // PSI is only read inside the model cache's read actions, never here
+        progress.setText("Resolving class model...");
+        ClassModel model = TypeModelCache.getInstance(project).getModel(psiClass, progress);
+        if (model == null) {
+            new JsonWriter(out, indentSize).nullValue();
+            return;
         }
+        LOGGER.fine("Starting JSON generation for class: " + model.getQualifiedName());
+        generate(model, out, progress);
+    }
+    
+    /**
+     * Streams the JSON for an already resolved class model, sharing it with other emitters
+     */
+    public void generate(ClassModel model, Appendable out) {
+        generate(model, out, GenerationProgress.NONE);
+    }
+    
+    /**
+     * Same as {@link #generate(ClassModel, Appendable)}, checking for cancellation at every
+     * object and field and reporting progress over the root object's fields
+     */
+    public void generate(ClassModel model, Appendable out, GenerationProgress progress) {
+        RandomValueGenerator random = profile.isFixedSeed()
+            ? new RandomValueGenerator(profile.getRandomSeed())
+            : new RandomValueGenerator();
+        generate(model, out, random, progress);
+    }
+    
+    /**
+     * Same as {@link #generate(ClassModel, Appendable, GenerationProgress)}, drawing every value
+     * from {@code random}; the same model, profile and seed always give the same output
+     */
+    public void generate(ClassModel model, Appendable out, RandomValueGenerator random, GenerationProgress progress) {
+        progress.setText("Generating JSON...");
+        Run run = new Run(new JsonWriter(out, indentSize), random, progress, clock.millis());
+        run.reportsRootFields = true;
+        writeJsonObject(compile(model).root, run);
+    }
+    
+    /**
+     * Resolves how every class reachable from {@code model} is emitted, for writing many records
+     * with {@link #writeRecords}
+     */
+    public Plan compile(ClassModel model) {
+        Map<ClassModel, ObjectPlan> objects = new IdentityHashMap<>();
+        Deque<ObjectPlan> pending = new ArrayDeque<>();
+        ObjectPlan root = objectPlan(model, objects, pending);
+        while (!pending.isEmpty()) {
+            ObjectPlan object = pending.pop();
+            List<FieldModel> fields = object.model.getFields();
+            for (int i = 0; i < object.values.length; i++) {
+                object.values[i] = valuePlan(fields.get(i).getType(), objects, pending);
+            }
+        }
+        return new Plan(root);
+    }
+    
+    /**
+     * Writes {@code count} records as newline-delimited compact JSON, whatever the configured
+     * indent. Record {@code first + i} draws its values from {@code random.derive(first + i)}, so
+     * it depends only on the seed and its index, and any range of records can be written on its
+     * own. The traversal state is reused from record to record, so memory does not grow with
+     * {@code count}; the progress is only checked for cancellation.
+     */
+    public void writeRecords(Plan plan, Appendable out, RandomValueGenerator random,
+                             long first, long count, GenerationProgress progress) {
+        JsonWriter writer = new JsonWriter(out, 0);
+        Run run = new Run(writer, random, progress, clock.millis());
+        for (long i = first; i < first + count; i++) {
+            run.random = random.derive(i);
+            writeJsonObject(plan.root, run);
+            writer.raw("\n");
+        }
+    }
+    
+    private void writeJsonObject(ObjectPlan object, Run run) {
+        run.progress.checkCanceled();
         
-        String className = psiClass.getQualifiedName();
-        if (className == null) {
-            LOGGER.fine("Class has no qualified name, using simple name");
-            className = psiClass.getName();
-            if (className == null) return "null";
+        if (object.model.isEnum()) {
+            writeEnumValue(object.model, run);
+            return;
         }
         
+        String className = object.qualifiedName;
+        
         // Enhanced circular reference detection
-        if (processingClasses.contains(className)) {
+        if (run.processingClasses.contains(className)) {
             LOGGER.fine("Circular reference detected for class: " + className);
-            return "null";
+            run.writer.nullValue();
+            return;
         }
         
-        int visitCount = visitedClasses.getOrDefault(className, 0);
-        if (visitCount >= MAX_SAME_CLASS_VISITS || recursionDepth > MAX_RECURSION_DEPTH) {
+        int visitCount = run.visitedClasses.getOrDefault(className, 0);
+        if (visitCount >= MAX_SAME_CLASS_VISITS || run.recursionDepth >= profile.getMaxRecursionDepth()) {
             LOGGER.fine("Recursion/visit limits reached for class: " + className);
-            return "null";
+            run.writer.nullValue();
+            return;
         }
         
-        visitedClasses.put(className, visitCount + 1);
-        processingClasses.add(className);
-        recursionDepth++;
+        run.visitedClasses.put(className, visitCount + 1);
+        run.processingClasses.add(className);
+        run.recursionDepth++;
         
-        StringBuilder json = new StringBuilder("{\n");
-        
-        // Get all fields including inherited ones
-        List<PsiField> fields = getAllFields(psiClass);
-        
-        boolean first = true;
-        for (PsiField field : fields) {
-            // Skip static and final fields
-            if (field.hasModifierProperty(PsiModifier.STATIC) || 
-                field.hasModifierProperty(PsiModifier.FINAL)) {
-                continue;
+        boolean root = run.recursionDepth == 1 && run.reportsRootFields;
+        int fieldCount = object.names.length;
+        run.writer.beginObject();
+        for (int i = 0; i < fieldCount; i++) {
+            run.progress.checkCanceled();
+            run.writer.name(object.names[i]);
+            writeValue(object.values[i], run);
+            if (root) {
+                run.progress.emitted(i + 1, fieldCount);
             }
-            
-            if (!first) {
-                json.append(",\n");
-            }
-            first = false;
-            
-            String fieldName = field.getName();
-            String value = generateValueForType(field.getType(), project);
-            
-            json.append("  \"").append(fieldName).append("\": ").append(value);
         }
-        
-        json.append("\n}");
+        run.writer.endObject();
         
         // Cleanup visit tracking
-        processingClasses.remove(className);
-        visitedClasses.put(className, visitedClasses.get(className) - 1);
-        if (visitedClasses.get(className) <= 0) {
-            visitedClasses.remove(className);
+        run.processingClasses.remove(className);
+        run.visitedClasses.put(className, run.visitedClasses.get(className) - 1);
+        if (run.visitedClasses.get(className) <= 0) {
+            run.visitedClasses.remove(className);
         }
-        recursionDepth--;
-        
-        return json.toString();
+        run.recursionDepth--;
     }
     
-    private List<PsiField> getAllFields(PsiClass psiClass) {
-        List<PsiField> allFields = new ArrayList<>();
-        
-        // Get fields from current class
-        allFields.addAll(Arrays.asList(psiClass.getFields()));
-        
-        // Get fields from superclass (except Object)
-        PsiClass superClass = psiClass.getSuperClass();
-        if (superClass != null && !"java.lang.Object".equals(superClass.getQualifiedName())) {
-            allFields.addAll(getAllFields(superClass));
+    private void writeValue(ValuePlan value, Run run) {
+        switch (value.emit) {
+            case CUSTOM:
+                value.custom.writeValue(run.writer, run.random);
+                break;
+            case TEMPLATE:
+                writeTemplateValue(value.template, run);
+                break;
+            case MAPPED:
+                writeMappedValue(value.mappedType, run);
+                break;
+            case BUILTIN:
+                writeBuiltinValue(value.builtin, run);
+                break;
+            case ARRAY:
+                writeArrayValue(value.element, run);
+                break;
+            case MAP:
+                writeMapValue(value.builtin, value.element, run);
+                break;
+            case OPTIONAL:
+                // Sometimes generate null, sometimes the value
+                if (run.random.generateBoolean()) {
+                    writeValue(value.element, run);
+                } else {
+                    run.writer.nullValue();
+                }
+                break;
+            case OBJECT:
+                writeJsonObject(value.object, run);
+                break;
+            default:
+                run.writer.nullValue();
         }
-        
-        return allFields;
     }
     
-    private String generateValueForType(PsiType type, Project project) {
-        if (type == null) return "null";
-        
-        String typeName = type.getCanonicalText();
-        
-        // Handle primitive types
-        if (PsiType.INT.equals(type) || "int".equals(typeName)) {
-            return String.valueOf(randomValueGenerator.generateInt());
-        } else if (PsiType.LONG.equals(type) || "long".equals(typeName)) {
-            return String.valueOf(randomValueGenerator.generateLong());
-        } else if (PsiType.DOUBLE.equals(type) || "double".equals(typeName)) {
-            return String.valueOf(randomValueGenerator.generateDouble());
-        } else if (PsiType.FLOAT.equals(type) || "float".equals(typeName)) {
-            return String.valueOf(randomValueGenerator.generateFloat());
-        } else if (PsiType.BOOLEAN.equals(type) || "boolean".equals(typeName)) {
-            return String.valueOf(randomValueGenerator.generateBoolean());
+    private static ObjectPlan objectPlan(ClassModel model, Map<ClassModel, ObjectPlan> objects, Deque<ObjectPlan> pending) {
+        ObjectPlan object = objects.get(model);
+        if (object == null) {
+            object = new ObjectPlan(model);
+            objects.put(model, object);
+            pending.push(object);
         }
-        
-        // Handle wrapper types and common classes
-        if ("java.lang.String".equals(typeName) || "String".equals(typeName)) {
-            return "\"" + randomValueGenerator.generateString() + "\"";
-        } else if ("java.lang.Integer".equals(typeName) || "Integer".equals(typeName)) {
-            return String.valueOf(randomValueGenerator.generateInt());
-        } else if ("java.lang.Long".equals(typeName) || "Long".equals(typeName)) {
-            return String.valueOf(randomValueGenerator.generateLong());
-        } else if ("java.lang.Double".equals(typeName) || "Double".equals(typeName)) {
-            return String.valueOf(randomValueGenerator.generateDouble());
-        } else if ("java.lang.Float".equals(typeName) || "Float".equals(typeName)) {
-            return String.valueOf(randomValueGenerator.generateFloat());
-        } else if ("java.lang.Boolean".equals(typeName) || "Boolean".equals(typeName)) {
-            return String.valueOf(randomValueGenerator.generateBoolean());
-        } else if ("java.util.Date".equals(typeName) || "Date".equals(typeName)) {
-            return "\"" + randomValueGenerator.generateDate() + "\"";
-        } else if ("java.time.LocalDateTime".equals(typeName) || "LocalDateTime".equals(typeName)) {
-            return "\"" + randomValueGenerator.generateDateTime() + "\"";
-        } else if ("java.time.LocalDate".equals(typeName) || "LocalDate".equals(typeName)) {
-            return "\"" + randomValueGenerator.generateDate().split(" ")[0] + "\"";
-        } else if ("java.time.LocalTime".equals(typeName) || "LocalTime".equals(typeName)) {
-            return "\"" + randomValueGenerator.generateDate().split(" ")[1] + "\"";
-        } else if ("java.util.UUID".equals(typeName) || "UUID".equals(typeName)) {
-            return "\"" + randomValueGenerator.generateUUID() + "\"";
-        } else if ("java.math.BigDecimal".equals(typeName) || "BigDecimal".equals(typeName)) {
-            return String.valueOf(randomValueGenerator.generateDouble());
-        } else if ("java.math.BigInteger".equals(typeName) || "BigInteger".equals(typeName)) {
-            return String.valueOf(randomValueGenerator.generateLong());
-        }
-        
-        // Handle arrays
-        if (type instanceof PsiArrayType) {
-            PsiType componentType = ((PsiArrayType) type).getComponentType();
-            return generateArrayValue(componentType, project);
-        }
-        
-        // Handle collections
-        if (type instanceof PsiClassType) {
-            PsiClassType classType = (PsiClassType) type;
-            PsiClass psiClass = classType.resolve();
-            
-            if (psiClass != null) {
-                String qualifiedName = psiClass.getQualifiedName();
-                
-                // Handle List, Set, Collection, ArrayList, LinkedList, etc.
-                if (isCollectionType(qualifiedName)) {
-                    PsiType[] parameters = classType.getParameters();
-                    if (parameters.length > 0) {
-                        return generateArrayValue(parameters[0], project);
-                    }
-                    return "[]";
+        return object;
+    }
+    
+    /**
+     * Decides once how values of the type are written: a custom generator wins over a value
+     * template, which wins over a package mapping, which wins over the type itself
+     */
+    private ValuePlan valuePlan(TypeRef type, Map<ClassModel, ObjectPlan> objects, Deque<ObjectPlan> pending) {
+        ValuePlan value = new ValuePlan();
+        switch (type.getKind()) {
+            case BUILTIN: {
+                String qualifiedName = type.getBuiltin().getQualifiedName();
+                value.custom = profile.findCustomGenerator(qualifiedName);
+                value.template = value.custom == null ? profile.findJsonTemplate(qualifiedName) : null;
+                value.builtin = type.getBuiltin();
+                value.emit = value.custom != null ? Emit.CUSTOM
+                    : value.template != null ? Emit.TEMPLATE : Emit.BUILTIN;
+                break;
+            }
+            case ARRAY:
+                value.emit = Emit.ARRAY;
+                if (type.getElement().getKind() != TypeRef.Kind.UNKNOWN) {
+                    value.element = valuePlan(type.getElement(), objects, pending);
                 }
-                
-                // Handle Map, HashMap, LinkedHashMap, etc.
-                if (isMapType(qualifiedName)) {
-                    PsiType[] parameters = classType.getParameters();
-                    if (parameters.length >= 2) {
-                        return generateMapValue(parameters[0], parameters[1], project);
-                    }
-                    return "{}";
+                break;
+            case MAP:
+                value.emit = Emit.MAP;
+                if (type.getKey().getKind() != TypeRef.Kind.UNKNOWN) {
+                    value.builtin = type.getKey().getBuiltin();
+                    value.element = valuePlan(type.getValue(), objects, pending);
                 }
-                
-                // Handle Optional
-                if ("java.util.Optional".equals(qualifiedName)) {
-                    PsiType[] parameters = classType.getParameters();
-                    if (parameters.length > 0) {
-                        // Sometimes generate null, sometimes the value
-                        return randomValueGenerator.generateBoolean() ? 
-                            generateValueForType(parameters[0], project) : "null";
-                    }
-                    return "null";
+                break;
+            case OPTIONAL:
+                if (type.getElement().getKind() != TypeRef.Kind.UNKNOWN) {
+                    value.emit = Emit.OPTIONAL;
+                    value.element = valuePlan(type.getElement(), objects, pending);
+                } else {
+                    value.emit = Emit.NULL;
                 }
-                
-                // Handle custom classes
-                return generateJsonObject(psiClass, project);
+                break;
+            case OBJECT: {
+                String qualifiedName = type.getClassModel().getQualifiedName();
+                value.custom = profile.findCustomGenerator(qualifiedName);
+                value.template = value.custom == null ? profile.findJsonTemplate(qualifiedName) : null;
+                String mappedType = value.custom == null && value.template == null
+                    ? profile.findJsonType(qualifiedName) : null;
+                if (value.custom != null) {
+                    value.emit = Emit.CUSTOM;
+                } else if (value.template != null) {
+                    value.emit = Emit.TEMPLATE;
+                } else if (mappedType != null) {
+                    value.emit = Emit.MAPPED;
+                    value.mappedType = mappedType.toLowerCase(Locale.ROOT);
+                } else {
+                    value.emit = Emit.OBJECT;
+                    value.object = objectPlan(type.getClassModel(), objects, pending);
+                }
+                break;
             }
+            default:
+                value.emit = Emit.NULL;
         }
-        
-        return "null";
+        return value;
     }
     
-    private String generateArrayValue(PsiType elementType, Project project) {
-        StringBuilder array = new StringBuilder("[");
-        int size = randomValueGenerator.generateArraySize();
-        
-        for (int i = 0; i < size; i++) {
-            if (i > 0) {
-                array.append(", ");
+    /**
+     * Renders a type mapping's value pattern straight into the output, placeholder by placeholder
+     */
+    private void writeTemplateValue(JsonValueTemplate template, Run run) {
+        run.writer.beginRawValue();
+        for (JsonValueTemplate.Segment segment : template.getSegments()) {
+            if (segment.isLiteral()) {
+                run.writer.raw(segment.getLiteral());
+            } else {
+                writePlaceholder(segment.getPlaceholder(), segment.isQuoted(), run);
             }
-            array.append(generateValueForType(elementType, project));
         }
-        
-        array.append("]");
-        return array.toString();
     }
     
-    private String generateMapValue(PsiType keyType, PsiType valueType, Project project) {
-        StringBuilder map = new StringBuilder("{");
-        int size = Math.min(randomValueGenerator.generateArraySize(), 3); // Limit map size
-        
-        for (int i = 0; i < size; i++) {
-            if (i > 0) {
-                map.append(", ");
-            }
-            
-            // Generate key - must be a string in JSON
-            String key = generateKeyForType(keyType);
-            String value = generateValueForType(valueType, project);
-            
-            map.append("\"").append(key).append("\": ").append(value);
+    private void writePlaceholder(JsonValueTemplate.Placeholder placeholder, boolean quoted, Run run) {
+        switch (placeholder) {
+            case RANDOM_DATE:
+            case RANDOM_DATETIME:
+                writeRawDate(profile.getDateFormatter(), quoted, run);
+                break;
+            case RANDOM_DATE_ONLY:
+                writeRawDate(profile.getDateOnlyFormatter(), quoted, run);
+                break;
+            case RANDOM_TIME_ONLY:
+                writeRawDate(profile.getTimeOnlyFormatter(), quoted, run);
+                break;
+            case RANDOM_NUMBER:
+            case RANDOM_DECIMAL:
+                run.writer.raw(run.random.generateDouble());
+                break;
+            case RANDOM_INTEGER:
+                run.writer.raw(run.random.generateLong());
+                break;
+            case RANDOM_STRING:
+                writeRawText(run.random.generateString(), quoted, run);
+                break;
+            case RANDOM_BOOLEAN:
+                run.writer.raw(run.random.generateBoolean() ? "true" : "false");
+                break;
+            case RANDOM_UUID:
+                writeRawText(run.random.generateUUID(), quoted, run);
+                break;
+            case CURRENT_TIMESTAMP:
+                run.writer.raw(run.nowMillis);
+                break;
         }
-        
-        map.append("}");
-        return map.toString();
     }
     
-    private String generateKeyForType(PsiType keyType) {
-        // In JSON, keys must be strings
-        if (keyType == null) {
-            return "key" + randomValueGenerator.generateInt();
+    private void writeRawDate(DateTimeFormatter formatter, boolean quoted, Run run) {
+        Instant moment = sampleMoment(run);
+        if (quoted) {
+            run.writer.rawStringContent(moment, formatter);
+        } else {
+            run.writer.raw(moment, formatter);
         }
-        
-        String typeName = keyType.getCanonicalText();
-        if ("java.lang.String".equals(typeName) || "String".equals(typeName)) {
-            return randomValueGenerator.generateString();
-        } else if (PsiType.INT.equals(keyType) || "int".equals(typeName) ||
-                   "java.lang.Integer".equals(typeName) || "Integer".equals(typeName)) {
-            return String.valueOf(randomValueGenerator.generateInt());
+    }
+    
+    private static void writeRawText(String text, boolean quoted, Run run) {
+        if (quoted) {
+            run.writer.rawStringContent(text);
         } else {
-            return "key" + randomValueGenerator.generateInt();
+            run.writer.raw(text);
         }
     }
     
-    private boolean isCollectionType(String qualifiedName) {
-        return COLLECTION_TYPES.contains(qualifiedName);
+    /**
+     * Sample value for a class that a package mapping maps to a plain JSON type
+     */
+    private void writeMappedValue(String jsonType, Run run) {
+        switch (jsonType) {
+            case "string":
+                run.writer.value(run.random.generateString());
+                break;
+            case "number":
+                run.writer.value(run.random.generateInt());
+                break;
+            case "boolean":
+                run.writer.value(run.random.generateBoolean());
+                break;
+            case "object":
+                run.writer.beginObject();
+                run.writer.endObject();
+                break;
+            case "array":
+                run.writer.beginArray();
+                run.writer.endArray();
+                break;
+            default:
+                // "any", "null" and unknown targets carry no sample value
+                run.writer.nullValue();
+        }
     }
     
-    private boolean isMapType(String qualifiedName) {
-        return MAP_TYPES.contains(qualifiedName);
+    private void writeEnumValue(ClassModel model, Run run) {
+        List<String> constants = model.getEnumConstants();
+        if (constants.isEmpty()) {
+            run.writer.nullValue();
+        } else {
+            run.writer.value(constants.get(run.random.generateIndex(constants.size())));
+        }
     }
     
-    private String formatJson(String json) {
-        // Simple JSON formatting - can be improved
-        StringBuilder formatted = new StringBuilder();
-        int indentLevel = 0;
-        boolean inString = false;
-        boolean escaped = false;
-        
-        for (char c : json.toCharArray()) {
-            if (!inString) {
-                switch (c) {
-                    case '{':
-                    case '[':
-                        formatted.append(c).append('\n');
-                        indentLevel++;
-                        appendIndent(formatted, indentLevel);
-                        break;
-                    case '}':
-                    case ']':
-                        formatted.append('\n');
-                        indentLevel--;
-                        appendIndent(formatted, indentLevel);
-                        formatted.append(c);
-                        break;
-                    case ',':
-                        formatted.append(c).append('\n');
-                        appendIndent(formatted, indentLevel);
-                        break;
-                    case ':':
-                        formatted.append(c).append(' ');
-                        break;
-                    case ' ':
-                    case '\n':
-                    case '\t':
-                        // Skip whitespace when not in string
-                        break;
-                    default:
-                        formatted.append(c);
-                }
-            } else {
-                formatted.append(c);
+    private void writeBuiltinValue(BuiltinType builtin, Run run) {
+        switch (builtin) {
+            case STRING:
+                run.writer.value(run.random.generateString());
+                break;
+            case CHAR:
+                run.writer.value(String.valueOf(run.random.generateChar()));
+                break;
+            case BYTE:
+                run.writer.value(run.random.generateInt() % 128);
+                break;
+            case SHORT:
+            case INT:
+                run.writer.value(run.random.generateInt());
+                break;
+            case LONG:
+            case BIG_INTEGER:
+                run.writer.value(run.random.generateLong());
+                break;
+            case FLOAT:
+                run.writer.value(run.random.generateFloat());
+                break;
+            case DOUBLE:
+            case BIG_DECIMAL:
+                run.writer.value(run.random.generateDouble());
+                break;
+            case BOOLEAN:
+                run.writer.value(run.random.generateBoolean());
+                break;
+            case DATE:
+            case INSTANT:
+            case LOCAL_DATE_TIME:
+                run.writer.value(sampleMoment(run), profile.getDateFormatter());
+                break;
+            case LOCAL_DATE:
+                run.writer.value(sampleMoment(run), profile.getDateOnlyFormatter());
+                break;
+            case LOCAL_TIME:
+                run.writer.value(sampleMoment(run), profile.getTimeOnlyFormatter());
+                break;
+            case UUID:
+                run.writer.value(run.random.generateUUID());
+                break;
+            default:
+                run.writer.nullValue();
+        }
+    }
+    
+    /**
+     * The run's clock snapshot, or a random second within the configured window around it
+     */
+    private Instant sampleMoment(Run run) {
+        if (profile.isUseCurrentTime()) {
+            return Instant.ofEpochSecond(run.nowEpochSecond);
+        }
+        return Instant.ofEpochSecond(run.random.generateEpochSecond(
+            run.nowEpochSecond, profile.getPastDays(), profile.getFutureDays()));
+    }
+    
+    private void writeArrayValue(@Nullable ValuePlan element, Run run) {
+        run.writer.beginArray();
+        if (element != null) {
+            int size = run.random.generateArraySize(profile.getArrayMaxSize());
+            for (int i = 0; i < size; i++) {
+                writeValue(element, run);
             }
-            
-            if (c == '"' && !escaped) {
-                inString = !inString;
+        }
+        run.writer.endArray();
+    }
+    
+    private void writeMapValue(BuiltinType keyType, @Nullable ValuePlan value, Run run) {
+        run.writer.beginObject();
+        if (value != null) {
+            int size = Math.min(run.random.generateArraySize(profile.getArrayMaxSize()), 3); // Limit map size
+            for (int i = 0; i < size; i++) {
+                // Generate key - must be a string in JSON
+                run.writer.name(generateKeyForType(keyType, run));
+                writeValue(value, run);
             }
-            escaped = (c == '\\' && !escaped);
         }
-        
-        return formatted.toString();
+        run.writer.endObject();
     }
     
-    private void appendIndent(StringBuilder sb, int level) {
-        for (int i = 0; i < level; i++) {
-            sb.append("  ");
+    private String generateKeyForType(BuiltinType keyType, Run run) {
+        // In JSON, keys must be strings
+        if (keyType == BuiltinType.STRING) {
+            return run.random.generateString();
+        } else if (keyType == BuiltinType.INT) {
+            return String.valueOf(run.random.generateInt());
+        } else {
+            return "key" + run.random.generateInt();
         }
     }
     
@@ -364,21 +545,75 @@ public class JsonGenerator {
     }
     
     /**
-     * Enhanced collection type detection with caching
+     * Emission decisions for every class reachable from a root model, resolved once against the
+     * profile. Each field already knows whether a custom generator, a value template, a package
+     * mapping or its own type produces its value, so writing a record never consults the mapping
+     * indexes. Immutable once compiled, so concurrent writers can share one plan.
      */
-    private static final Set<String> COLLECTION_TYPES = Set.of(
-        "java.util.List", "java.util.Set", "java.util.Collection",
-        "java.util.ArrayList", "java.util.LinkedList", "java.util.Vector",
-        "java.util.HashSet", "java.util.LinkedHashSet", "java.util.TreeSet",
-        "java.util.Queue", "java.util.Deque", "java.util.ArrayDeque"
-    );
+    public static final class Plan {
+        private final ObjectPlan root;
+        
+        private Plan(ObjectPlan root) {
+            this.root = root;
+        }
+        
+        public ClassModel getModel() {
+            return root.model;
+        }
+    }
+    
+    private enum Emit { CUSTOM, TEMPLATE, MAPPED, BUILTIN, ARRAY, MAP, OPTIONAL, OBJECT, NULL }
+    
+    private static final class ObjectPlan {
+        final ClassModel model;
+        final String qualifiedName;
+        final String[] names;
+        final ValuePlan[] values;
+        
+        ObjectPlan(ClassModel model) {
+            this.model = model;
+            this.qualifiedName = model.getQualifiedName();
+            List<FieldModel> fields = model.isEnum() ? Collections.emptyList() : model.getFields();
+            this.names = new String[fields.size()];
+            for (int i = 0; i < names.length; i++) {
+                names[i] = fields.get(i).getName();
+            }
+            this.values = new ValuePlan[names.length];
+        }
+    }
+    
+    private static final class ValuePlan {
+        Emit emit;
+        CustomValueGenerator custom;
+        JsonValueTemplate template;
+        String mappedType;
+        // Builtin type of the value, or of the key for maps
+        BuiltinType builtin;
+        // Array element, optional content or map value
+        ValuePlan element;
+        ObjectPlan object;
+    }
     
     /**
-     * Enhanced map type detection with caching
+     * Traversal state of a single generation call
      */
-    private static final Set<String> MAP_TYPES = Set.of(
-        "java.util.Map", "java.util.HashMap", "java.util.LinkedHashMap",
-        "java.util.TreeMap", "java.util.ConcurrentHashMap", "java.util.WeakHashMap",
-        "java.util.IdentityHashMap", "java.util.EnumMap"
-    );
-}
\ No newline at end of file
+    private static final class Run {
+        final JsonWriter writer;
+        final GenerationProgress progress;
+        RandomValueGenerator random;
+        final long nowMillis;
+        final long nowEpochSecond;
+        final Map<String, Integer> visitedClasses = new HashMap<>();
+        final Set<String> processingClasses = new HashSet<>();
+        int recursionDepth;
+        boolean reportsRootFields;
+        
+        Run(JsonWriter writer, RandomValueGenerator random, GenerationProgress progress, long nowMillis) {
+            this.writer = writer;
+            this.random = random;
+            this.progress = progress;
+            this.nowMillis = nowMillis;
+            this.nowEpochSecond = Math.floorDiv(nowMillis, 1000L);
+        }
+    }
+}
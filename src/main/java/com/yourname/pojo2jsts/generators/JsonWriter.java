@@ -0,0 +1,299 @@
+package com.yourname.pojo2jsts.generators;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAccessor;
+import java.util.Arrays;
+
+/**
+ * Streaming JSON writer that emits tokens straight into an {@link Appendable}.
+ * Pretty-printing is done inline, so the value tree is written exactly once
+ * and never buffered as intermediate strings. An indent size of 0 produces
+ * compact single-line JSON.
+ */
+public class JsonWriter {
+
+    public static final int DEFAULT_INDENT_SIZE = 2;
+
+    private final Appendable out;
+    private final String indent;
+    private final String nameSeparator;
+    // Reused for formatted dates, so writing one does not allocate a String
+    private final StringBuilder scratch = new StringBuilder(32);
+
+    // hasElements[depth] tells whether the container at that depth already holds a value
+    private boolean[] hasElements = new boolean[16];
+    private int depth = 0;
+    private boolean afterName = false;
+
+    public JsonWriter(Appendable out) {
+        this(out, DEFAULT_INDENT_SIZE);
+    }
+
+    public JsonWriter(Appendable out, int indentSize) {
+        this.out = out;
+        this.indent = indentSize > 0 ? " ".repeat(indentSize) : null;
+        this.nameSeparator = indentSize > 0 ? ": " : ":";
+    }
+
+    public JsonWriter beginObject() {
+        return open('{');
+    }
+
+    public JsonWriter endObject() {
+        return close('}');
+    }
+
+    public JsonWriter beginArray() {
+        return open('[');
+    }
+
+    public JsonWriter endArray() {
+        return close(']');
+    }
+
+    /**
+     * Writes an object member name; the next call must write its value
+     */
+    public JsonWriter name(String name) {
+        beforeElement();
+        writeString(name);
+        append(nameSeparator);
+        afterName = true;
+        return this;
+    }
+
+    public JsonWriter value(String value) {
+        if (value == null) {
+            return nullValue();
+        }
+        beforeValue();
+        writeString(value);
+        return this;
+    }
+
+    public JsonWriter value(long value) {
+        beforeValue();
+        if (out instanceof StringBuilder) {
+            ((StringBuilder) out).append(value);
+        } else {
+            append(Long.toString(value));
+        }
+        return this;
+    }
+
+    public JsonWriter value(double value) {
+        beforeValue();
+        if (out instanceof StringBuilder) {
+            ((StringBuilder) out).append(value);
+        } else {
+            append(Double.toString(value));
+        }
+        return this;
+    }
+
+    public JsonWriter value(boolean value) {
+        beforeValue();
+        append(value ? "true" : "false");
+        return this;
+    }
+
+    /**
+     * Writes a date/time as a JSON string, formatting it straight into the output
+     */
+    public JsonWriter value(TemporalAccessor temporal, DateTimeFormatter formatter) {
+        beforeValue();
+        append('"');
+        writeStringContent(format(temporal, formatter));
+        append('"');
+        return this;
+    }
+
+    public JsonWriter nullValue() {
+        beforeValue();
+        append("null");
+        return this;
+    }
+
+    /**
+     * Positions the writer for a value the caller emits piecewise with the {@code raw} methods.
+     * The pieces must add up to exactly one valid JSON value.
+     */
+    public JsonWriter beginRawValue() {
+        beforeValue();
+        return this;
+    }
+
+    /**
+     * Appends JSON text verbatim
+     */
+    public JsonWriter raw(CharSequence json) {
+        append(json);
+        return this;
+    }
+
+    public JsonWriter raw(long value) {
+        if (out instanceof StringBuilder) {
+            ((StringBuilder) out).append(value);
+        } else {
+            append(Long.toString(value));
+        }
+        return this;
+    }
+
+    public JsonWriter raw(double value) {
+        if (out instanceof StringBuilder) {
+            ((StringBuilder) out).append(value);
+        } else {
+            append(Double.toString(value));
+        }
+        return this;
+    }
+
+    /**
+     * Appends a formatted date/time verbatim
+     */
+    public JsonWriter raw(TemporalAccessor temporal, DateTimeFormatter formatter) {
+        append(format(temporal, formatter));
+        return this;
+    }
+
+    /**
+     * Appends a formatted date/time escaped for use inside a JSON string
+     */
+    public JsonWriter rawStringContent(TemporalAccessor temporal, DateTimeFormatter formatter) {
+        writeStringContent(format(temporal, formatter));
+        return this;
+    }
+
+    /**
+     * Appends text escaped for use inside a JSON string, without the surrounding quotes
+     */
+    public JsonWriter rawStringContent(CharSequence text) {
+        writeStringContent(text);
+        return this;
+    }
+
+    private JsonWriter open(char bracket) {
+        beforeValue();
+        append(bracket);
+        depth++;
+        if (depth == hasElements.length) {
+            hasElements = Arrays.copyOf(hasElements, depth * 2);
+        }
+        hasElements[depth] = false;
+        return this;
+    }
+
+    private JsonWriter close(char bracket) {
+        if (depth == 0) {
+            throw new IllegalStateException("Unbalanced JSON: nothing to close with " + bracket);
+        }
+        boolean empty = !hasElements[depth];
+        depth--;
+        if (!empty) {
+            newLine();
+        }
+        append(bracket);
+        return this;
+    }
+
+    private void beforeValue() {
+        if (afterName) {
+            // Member value follows its name on the same line
+            afterName = false;
+            return;
+        }
+        beforeElement();
+    }
+
+    private void beforeElement() {
+        if (depth == 0) {
+            return;
+        }
+        if (hasElements[depth]) {
+            append(',');
+        }
+        hasElements[depth] = true;
+        newLine();
+    }
+
+    private void newLine() {
+        if (indent == null) {
+            return;
+        }
+        append('\n');
+        for (int i = 0; i < depth; i++) {
+            append(indent);
+        }
+    }
+
+    private void writeString(String value) {
+        append('"');
+        writeStringContent(value);
+        append('"');
+    }
+
+    private void writeStringContent(CharSequence value) {
+        int length = value.length();
+        int start = 0;
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            String replacement = escape(c);
+            if (replacement != null) {
+                appendRange(value, start, i);
+                append(replacement);
+                start = i + 1;
+            }
+        }
+        appendRange(value, start, length);
+    }
+
+    private CharSequence format(TemporalAccessor temporal, DateTimeFormatter formatter) {
+        scratch.setLength(0);
+        formatter.formatTo(temporal, scratch);
+        return scratch;
+    }
+
+    private static String escape(char c) {
+        switch (c) {
+            case '"': return "\\\"";
+            case '\\': return "\\\\";
+            case '\n': return "\\n";
+            case '\r': return "\\r";
+            case '\t': return "\\t";
+            case '\b': return "\\b";
+            case '\f': return "\\f";
+            default:
+                return c < 0x20 ? String.format("\\u%04x", (int) c) : null;
+        }
+    }
+
+    private void append(char c) {
+        try {
+            out.append(c);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void append(CharSequence text) {
+        try {
+            out.append(text);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void appendRange(CharSequence text, int start, int end) {
+        if (start >= end) {
+            return;
+        }
+        try {
+            out.append(text, start, end);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
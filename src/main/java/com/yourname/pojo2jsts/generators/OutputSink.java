@@ -0,0 +1,344 @@
+package com.yourname.pojo2jsts.generators;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Locale;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * File destination for generated text that never holds more than a fixed amount of it on the heap.
+ * Appended characters are staged in a small char buffer and encoded as UTF-8 straight into either
+ * a large direct buffer that is written to the {@link FileChannel}, the current memory-mapped
+ * region of the file, or a buffer that is deflated into a gzip stream as it fills up. Output for
+ * the clipboard keeps using a plain {@link StringBuilder}; this is the backend for everything that
+ * goes to disk.
+ */
+public abstract class OutputSink implements Appendable, Closeable {
+
+    private static final int CHAR_BUFFER_SIZE = 1 << 13;
+    private static final int DIRECT_BUFFER_SIZE = 1 << 20;
+    private static final long MAPPED_REGION_SIZE = 1L << 26;
+    // A mapping is only released when the GC collects it, and Windows refuses to truncate or
+    // delete a file while any mapping of it is alive
+    private static final boolean MAPPING_LOCKS_FILE =
+        System.getProperty("os.name", "").toLowerCase(Locale.ROOT).startsWith("windows");
+
+    protected final FileChannel channel;
+    private final CharBuffer chars = CharBuffer.allocate(CHAR_BUFFER_SIZE);
+    private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder()
+        .onMalformedInput(CodingErrorAction.REPLACE)
+        .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    private boolean closed;
+
+    private OutputSink(FileChannel channel) {
+        this.channel = channel;
+    }
+
+    /**
+     * Creates or truncates the file and writes it through a direct buffer
+     */
+    public static OutputSink toFile(Path path) throws IOException {
+        return new ChannelSink(FileChannel.open(path, StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE));
+    }
+
+    /**
+     * Creates or truncates the file and writes it through successive memory-mapped regions.
+     * The file is cut to the written size on {@link #close()}, which fails on Windows while the
+     * regions are still mapped; use {@link #toFile(Path, boolean)} to pick a sink that works there.
+     */
+    public static OutputSink toMappedFile(Path path) throws IOException {
+        return toMappedFile(path, MAPPED_REGION_SIZE);
+    }
+
+    static OutputSink toMappedFile(Path path, long regionSize) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            return new MappedSink(channel, regionSize);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Memory-mapped sink if asked for and the platform can unmap before the file is truncated or
+     * deleted; a channel sink otherwise, so on Windows the setting has no effect
+     */
+    public static OutputSink toFile(Path path, boolean memoryMapped) throws IOException {
+        return memoryMapped && !MAPPING_LOCKS_FILE ? toMappedFile(path) : toFile(path);
+    }
+
+    /**
+     * Creates or truncates the file and writes it as a single gzip member, compressing on the fly
+     * @param level deflate level from 1 (fastest) to 9 (smallest)
+     */
+    public static OutputSink toGzipFile(Path path, int level) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+        try {
+            return new GzipSink(channel, level);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    @Override
+    public OutputSink append(char c) throws IOException {
+        if (!chars.hasRemaining()) {
+            encode(false);
+        }
+        chars.put(c);
+        return this;
+    }
+
+    @Override
+    public OutputSink append(CharSequence csq) throws IOException {
+        CharSequence text = csq != null ? csq : "null";
+        return append(text, 0, text.length());
+    }
+
+    @Override
+    public OutputSink append(CharSequence csq, int start, int end) throws IOException {
+        CharSequence text = csq != null ? csq : "null";
+        while (start < end) {
+            if (!chars.hasRemaining()) {
+                encode(false);
+            }
+            int chunkEnd = start + Math.min(end - start, chars.remaining());
+            if (text instanceof String) {
+                chars.put((String) text, start, chunkEnd);
+            } else {
+                for (int i = start; i < chunkEnd; i++) {
+                    chars.put(text.charAt(i));
+                }
+            }
+            start = chunkEnd;
+        }
+        return this;
+    }
+
+    /**
+     * Bytes of encoded text written so far, including any still buffered; for a gzip sink this
+     * is the uncompressed size
+     */
+    public long getBytesWritten() throws IOException {
+        if (!closed) {
+            encode(false);
+        }
+        return committedBytes() + buffer().position();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            encode(true);
+            while (encoder.flush(buffer()).isOverflow()) {
+                drain();
+            }
+            finish();
+        } finally {
+            channel.close();
+        }
+    }
+
+    private void encode(boolean endOfInput) throws IOException {
+        chars.flip();
+        while (true) {
+            CoderResult result = encoder.encode(chars, buffer(), endOfInput);
+            if (result.isOverflow()) {
+                drain();
+            } else {
+                break;
+            }
+        }
+        // An unpaired high surrogate at the end waits for the next append
+        chars.compact();
+    }
+
+    /**
+     * Buffer the encoder currently writes into
+     */
+    protected abstract ByteBuffer buffer();
+
+    /**
+     * Makes room in {@link #buffer()} once it is full
+     */
+    protected abstract void drain() throws IOException;
+
+    /**
+     * Bytes already handed to the file, not counting the current buffer
+     */
+    protected abstract long committedBytes();
+
+    /**
+     * Writes out the rest of the buffer; the channel is closed afterwards
+     */
+    protected abstract void finish() throws IOException;
+
+    private static final class ChannelSink extends OutputSink {
+        private final ByteBuffer bytes = ByteBuffer.allocateDirect(DIRECT_BUFFER_SIZE);
+        private long committed;
+
+        ChannelSink(FileChannel channel) {
+            super(channel);
+        }
+
+        @Override
+        protected ByteBuffer buffer() {
+            return bytes;
+        }
+
+        @Override
+        protected void drain() throws IOException {
+            bytes.flip();
+            while (bytes.hasRemaining()) {
+                committed += channel.write(bytes);
+            }
+            bytes.clear();
+        }
+
+        @Override
+        protected long committedBytes() {
+            return committed;
+        }
+
+        @Override
+        protected void finish() throws IOException {
+            drain();
+        }
+    }
+
+    private static final class MappedSink extends OutputSink {
+        private final long regionSize;
+        private long regionStart;
+        private MappedByteBuffer region;
+
+        MappedSink(FileChannel channel, long regionSize) throws IOException {
+            super(channel);
+            this.regionSize = regionSize;
+            this.region = channel.map(FileChannel.MapMode.READ_WRITE, 0, regionSize);
+        }
+
+        @Override
+        protected ByteBuffer buffer() {
+            return region;
+        }
+
+        @Override
+        protected void drain() throws IOException {
+            // Mapping past the end grows the file; the region left behind is released by the GC
+            regionStart += region.position();
+            region = channel.map(FileChannel.MapMode.READ_WRITE, regionStart, regionSize);
+        }
+
+        @Override
+        protected long committedBytes() {
+            return regionStart;
+        }
+
+        @Override
+        protected void finish() throws IOException {
+            channel.truncate(regionStart + region.position());
+        }
+    }
+
+    /**
+     * Writes the gzip header, deflates every full buffer straight to the channel and ends with the
+     * CRC-32 and size trailer, so the output is never held uncompressed beyond one buffer.
+     * Files written this way can be concatenated into a valid multi-member gzip file.
+     */
+    private static final class GzipSink extends OutputSink {
+        private static final byte[] HEADER = {
+            0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff
+        };
+
+        private final ByteBuffer bytes = ByteBuffer.allocateDirect(DIRECT_BUFFER_SIZE);
+        private final ByteBuffer compressed = ByteBuffer.allocateDirect(DIRECT_BUFFER_SIZE);
+        private final Deflater deflater;
+        private final CRC32 crc = new CRC32();
+        private long uncompressed;
+
+        GzipSink(FileChannel channel, int level) throws IOException {
+            super(channel);
+            this.deflater = new Deflater(level, true);
+            compressed.put(HEADER);
+        }
+
+        @Override
+        protected ByteBuffer buffer() {
+            return bytes;
+        }
+
+        @Override
+        protected void drain() throws IOException {
+            bytes.flip();
+            uncompressed += bytes.remaining();
+            crc.update(bytes.duplicate());
+            // The deflater keeps the buffer it was given, so hand it a view that stays consumed
+            deflater.setInput(bytes.slice());
+            while (!deflater.needsInput()) {
+                deflate();
+            }
+            bytes.clear();
+        }
+
+        @Override
+        protected long committedBytes() {
+            return uncompressed;
+        }
+
+        @Override
+        protected void finish() throws IOException {
+            try {
+                drain();
+                deflater.finish();
+                while (!deflater.finished()) {
+                    deflate();
+                }
+                if (compressed.remaining() < 8) {
+                    writeCompressed();
+                }
+                compressed.order(ByteOrder.LITTLE_ENDIAN);
+                compressed.putInt((int) crc.getValue());
+                compressed.putInt((int) uncompressed);
+                writeCompressed();
+            } finally {
+                deflater.end();
+            }
+        }
+
+        private void deflate() throws IOException {
+            deflater.deflate(compressed);
+            if (!compressed.hasRemaining()) {
+                writeCompressed();
+            }
+        }
+
+        private void writeCompressed() throws IOException {
+            compressed.flip();
+            while (compressed.hasRemaining()) {
+                channel.write(compressed);
+            }
+            compressed.clear();
+        }
+    }
+}
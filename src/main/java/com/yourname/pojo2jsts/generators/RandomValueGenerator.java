@@ -2,12 +2,18 @@ package com.yourname.pojo2jsts.generators;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.UUID;
 import java.util.concurrent.ThreadLocalRandom;
 
+/**
+ * Source of random sample values, backed by its own {@link SplittableRandom}. An instance is
+ * not thread-safe and is meant to be confined to one generation run or thread; use
+ * {@link #derive(long)} to hand independent streams to other threads.
+ * Generators created with the same seed produce the same sequence of values.
+ */
 public class RandomValueGenerator {
     
-    private static final Random RANDOM = new Random();
     private static final String[] SAMPLE_STRINGS = {
         "Lorem", "ipsum", "dolor", "sit", "amet", "consectetur", "adipiscing", "elit",
         "sample", "example", "test", "demo", "placeholder", "text"
@@ -17,52 +23,122 @@ public class RandomValueGenerator {
         "user@example.com", "test@demo.org", "sample@test.net", "admin@company.com"
     };
     
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final long SECONDS_PER_DAY = 86_400L;
+    
+    private final long seed;
+    private final SplittableRandom random;
+    
+    /**
+     * Generator with a fresh random seed
+     */
+    public RandomValueGenerator() {
+        this(ThreadLocalRandom.current().nextLong());
+    }
+    
+    /**
+     * Generator whose whole output is determined by {@code seed}
+     */
+    public RandomValueGenerator(long seed) {
+        this.seed = seed;
+        this.random = new SplittableRandom(seed);
+    }
+    
+    /**
+     * Independent generator for a numbered stream, such as a record or chunk index. Depends only
+     * on this generator's seed and the stream id, not on how many values were drawn so far.
+     */
+    public RandomValueGenerator derive(long streamId) {
+        return new RandomValueGenerator(mix64(seed ^ mix64(streamId + 0x9E3779B97F4A7C15L)));
+    }
+    
     public String generateString() {
-        return SAMPLE_STRINGS[RANDOM.nextInt(SAMPLE_STRINGS.length)] + RANDOM.nextInt(1000);
+        return SAMPLE_STRINGS[random.nextInt(SAMPLE_STRINGS.length)] + random.nextInt(1000);
     }
     
     public String generateEmail() {
-        return SAMPLE_EMAILS[RANDOM.nextInt(SAMPLE_EMAILS.length)];
+        return SAMPLE_EMAILS[random.nextInt(SAMPLE_EMAILS.length)];
+    }
+    
+    public char generateChar() {
+        return (char) ('a' + random.nextInt(26));
     }
     
     public int generateInt() {
-        return RANDOM.nextInt(1000);
+        return random.nextInt(1000);
     }
     
     public long generateLong() {
-        return RANDOM.nextLong(1000000L);
+        return random.nextLong(1000000L);
     }
     
     public double generateDouble() {
-        return Math.round(RANDOM.nextDouble() * 1000.0 * 100.0) / 100.0;
+        return Math.round(random.nextDouble() * 1000.0 * 100.0) / 100.0;
     }
     
     public float generateFloat() {
-        return Math.round(RANDOM.nextFloat() * 1000.0f * 100.0f) / 100.0f;
+        return Math.round(random.nextFloat() * 1000.0f * 100.0f) / 100.0f;
     }
     
     public boolean generateBoolean() {
-        return RANDOM.nextBoolean();
+        return random.nextBoolean();
     }
     
     public String generateDate() {
         LocalDateTime now = LocalDateTime.now();
-        LocalDateTime randomDate = now.minusDays(ThreadLocalRandom.current().nextInt(0, 365))
-            .minusHours(ThreadLocalRandom.current().nextInt(0, 24))
-            .minusMinutes(ThreadLocalRandom.current().nextInt(0, 60));
+        LocalDateTime randomDate = now.minusDays(random.nextInt(0, 365))
+            .minusHours(random.nextInt(0, 24))
+            .minusMinutes(random.nextInt(0, 60));
         
-        return randomDate.format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
+        return randomDate.format(DATE_FORMAT);
     }
     
     public String generateDateTime() {
         return generateDate();
     }
     
+    /**
+     * Random epoch second between {@code pastDays} before and {@code futureDays} after {@code nowEpochSecond}
+     */
+    public long generateEpochSecond(long nowEpochSecond, int pastDays, int futureDays) {
+        long rangeSeconds = (pastDays + (long) futureDays) * SECONDS_PER_DAY;
+        long offset = rangeSeconds > 0 ? random.nextLong(rangeSeconds + 1) : 0;
+        return nowEpochSecond - pastDays * SECONDS_PER_DAY + offset;
+    }
+    
+    /**
+     * Random version 4 UUID drawn from this generator's stream, so it is reproducible too
+     */
     public String generateUUID() {
-        return java.util.UUID.randomUUID().toString();
+        long mostSigBits = (random.nextLong() & ~0xF000L) | 0x4000L;
+        long leastSigBits = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(mostSigBits, leastSigBits).toString();
+    }
+    
+    /**
+     * Random index into a collection of the given size
+     */
+    public int generateIndex(int size) {
+        return random.nextInt(size);
     }
     
     public int generateArraySize() {
-        return RANDOM.nextInt(3) + 1; // 1-3 elements
+        return random.nextInt(3) + 1; // 1-3 elements
+    }
+    
+    /**
+     * Random collection size between 1 and {@code maxSize}
+     */
+    public int generateArraySize(int maxSize) {
+        return random.nextInt(Math.max(1, maxSize)) + 1;
+    }
+    
+    /**
+     * Stafford's variant 13 of the MurmurHash3 finalizer, spreading nearby ids to unrelated seeds
+     */
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
     }
-}
\ No newline at end of file
+}
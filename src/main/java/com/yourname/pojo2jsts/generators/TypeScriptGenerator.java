@@ -1,67 +1,78 @@
 package com.yourname.pojo2jsts.generators;
 
+import com.intellij.openapi.progress.ProcessCanceledException;
+import com.intellij.openapi.progress.ProgressIndicator;
 import com.intellij.openapi.project.Project;
-import com.intellij.psi.*;
+import com.intellij.psi.PsiClass;
+import com.yourname.pojo2jsts.config.GenerationProfile;
+import com.yourname.pojo2jsts.model.ClassModel;
+import com.yourname.pojo2jsts.model.FieldModel;
+import com.yourname.pojo2jsts.model.GenerationProgress;
+import com.yourname.pojo2jsts.model.TypeModelBuilder;
+import com.yourname.pojo2jsts.model.TypeModelCache;
+import com.yourname.pojo2jsts.model.TypeRef;
+import org.jetbrains.annotations.Nullable;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Logger;
 import java.util.logging.Level;
 
+/**
+ * Emits TypeScript interfaces from a class model. Instances hold only configuration, an immutable
+ * {@link GenerationProfile}, and every call keeps its traversal state on the stack, so one
+ * generator can serve concurrent requests.
+ */
 public class TypeScriptGenerator {
     
     private static final Logger LOGGER = Logger.getLogger(TypeScriptGenerator.class.getName());
-    private final Map<String, Integer> processedInterfaces = new ConcurrentHashMap<>();
-    private final StringBuilder interfaceDefinitions = new StringBuilder();
-    private final Set<String> currentPath = new HashSet<>();
-    private final Set<String> processingClasses = new HashSet<>();
-    private int recursionDepth = 0;
-    private static final int MAX_RECURSION_DEPTH = 12;
-    private static final int MAX_SAME_CLASS_VISITS = 3;
-    private static final int MAX_PROCESSING_TIME_MS = 15000; // 15 seconds timeout
-    private long startTime;
+    private final GenerationProfile profile;
+    private final boolean preserveInheritance;
+    
+    public TypeScriptGenerator() {
+        this(GenerationProfile.DEFAULT);
+    }
+    
+    /**
+     * @param preserveInheritance emit base classes once and reference them with {@code extends}
+     *                            instead of flattening inherited fields into every interface
+     */
+    public TypeScriptGenerator(boolean preserveInheritance) {
+        this(GenerationProfile.DEFAULT, preserveInheritance);
+    }
+    
+    /**
+     * @param profile mappings and inheritance mode to generate with
+     */
+    public TypeScriptGenerator(GenerationProfile profile) {
+        this(profile, profile.isPreserveInheritance());
+    }
+    
+    private TypeScriptGenerator(GenerationProfile profile, boolean preserveInheritance) {
+        this.profile = profile;
+        this.preserveInheritance = preserveInheritance;
+    }
     
     public String generate(PsiClass psiClass, Project project) {
+        return generate(psiClass, project, null);
+    }
+    
+    /**
+     * Generates the interfaces, reporting progress to and honouring cancellation of the given indicator
+     */
+    public String generate(PsiClass psiClass, Project project, @Nullable ProgressIndicator indicator) {
         if (psiClass == null || project == null) {
             LOGGER.warning("Null input provided to TypeScriptGenerator");
             return "// Error: Invalid input - psiClass or project is null";
         }
         
-        // Reset state for each generation
-        processedInterfaces.clear();
-        interfaceDefinitions.setLength(0);
-        currentPath.clear();
-        processingClasses.clear();
-        recursionDepth = 0;
-        startTime = System.currentTimeMillis();
-        
         try {
-            LOGGER.fine("Starting TypeScript generation for class: " + psiClass.getQualifiedName());
-            
-            // First pass: collect all interface names to avoid forward reference issues
-            collectAllInterfaces(psiClass, project);
-            
-            // Second pass: generate the main interface
-            processedInterfaces.clear();
-            currentPath.clear();
-            processingClasses.clear();
-            recursionDepth = 0;
-            
-            String mainInterface = generateInterface(psiClass, project);
-            
-            // Combine all interface definitions
             StringBuilder result = new StringBuilder();
-            String definitions = interfaceDefinitions.toString().trim();
-            if (!definitions.isEmpty()) {
-                result.append(definitions);
-                if (!definitions.endsWith("\n")) {
-                    result.append("\n");
-                }
-                result.append("\n");
-            }
-            result.append(mainInterface);
-            
+            generate(psiClass, project, result, GenerationProgress.of(indicator));
             return result.toString();
+        } catch (ProcessCanceledException e) {
+            throw e;
         } catch (StackOverflowError e) {
             LOGGER.severe("Stack overflow during TypeScript generation: " + e.getMessage());
             return "// Error: Stack overflow - circular reference detected";
@@ -71,282 +82,315 @@ public class TypeScriptGenerator {
         } catch (Exception e) {
             LOGGER.log(Level.WARNING, "Error during TypeScript generation", e);
             return "// Error generating TypeScript interface: " + sanitizeComment(e.getMessage());
-        } finally {
-            // Cleanup
-            processedInterfaces.clear();
-            interfaceDefinitions.setLength(0);
-            currentPath.clear();
-            processingClasses.clear();
         }
     }
     
-    private String generateInterface(PsiClass psiClass, Project project) {
-        if (psiClass == null) return "any";
-        
-        String className = psiClass.getName();
-        String qualifiedName = psiClass.getQualifiedName();
-        
-        if (className == null || qualifiedName == null) return "any";
-        
-        // Check if already processed to avoid infinite recursion
-        int visitCount = processedInterfaces.getOrDefault(qualifiedName, 0);
-        if (visitCount >= MAX_SAME_CLASS_VISITS || recursionDepth > MAX_RECURSION_DEPTH ||
-            currentPath.contains(qualifiedName)) {
-            return className;
+    /**
+     * Streams the interfaces for the given class into {@code out}; failures are thrown rather
+     * than rendered as a comment
+     */
+    public void generate(PsiClass psiClass, Project project, Appendable out, GenerationProgress progress) {
+        // PSI is only read inside the model cache's read actions, never here
+        progress.setText("Resolving class model...");
+        ClassModel model = TypeModelCache.getInstance(project).getModel(psiClass, progress);
+        if (model == null) {
+            try {
+                out.append("any");
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return;
         }
-        
-        processedInterfaces.put(qualifiedName, visitCount + 1);
-        currentPath.add(qualifiedName);
-        recursionDepth++;
-        
-        StringBuilder interfaceBody = new StringBuilder();
-        interfaceBody.append("export interface ").append(className).append(" {\n");
-        
-        // Get all fields including inherited ones
-        List<PsiField> fields = getAllFields(psiClass);
-        
-        for (PsiField field : fields) {
-            // Skip static and final fields
-            if (field.hasModifierProperty(PsiModifier.STATIC) || 
-                field.hasModifierProperty(PsiModifier.FINAL)) {
+        LOGGER.fine("Starting TypeScript generation for class: " + model.getQualifiedName());
+        generateInterfaces(model, out, progress);
+    }
+    
+    /**
+     * Generates the interfaces for an already resolved class model, sharing it with other emitters
+     */
+    public String generate(ClassModel model) {
+        return generateInterfaces(model, GenerationProgress.NONE);
+    }
+    
+    /**
+     * Same as {@link #generate(ClassModel)}, checking for cancellation at every class
+     * and reporting progress over the interfaces to emit
+     */
+    public String generateInterfaces(ClassModel model, GenerationProgress progress) {
+        StringBuilder result = new StringBuilder();
+        generateInterfaces(model, result, progress);
+        return result.toString();
+    }
+    
+    /**
+     * Same as {@link #generateInterfaces(ClassModel, GenerationProgress)}, streaming each interface
+     * into {@code out} as soon as it is rendered, e.g. an {@link OutputSink}
+     */
+    public void generateInterfaces(ClassModel model, Appendable out, GenerationProgress progress) {
+        progress.setText("Generating TypeScript...");
+        writeInterfaces(orderInterfaces(model, progress), out, progress);
+    }
+    
+    /**
+     * Streams the interfaces of several classes into one module, e.g. a bundle for a whole package.
+     * A class reachable from several roots gets a single interface, ahead of the first one using it.
+     */
+    public void generateBundle(List<ClassModel> roots, Appendable out, GenerationProgress progress) {
+        progress.setText("Generating TypeScript...");
+        Map<String, ClassModel> interfaces = new LinkedHashMap<>();
+        for (ClassModel root : roots) {
+            for (ClassModel model : orderInterfaces(root, progress)) {
+                interfaces.putIfAbsent(model.getQualifiedName(), model);
+            }
+        }
+        writeInterfaces(new ArrayList<>(interfaces.values()), out, progress);
+    }
+    
+    private void writeInterfaces(List<ClassModel> interfaces, Appendable out, GenerationProgress progress) {
+        Map<String, String> names = interfaceNames(interfaces);
+        StringBuilder buffer = new StringBuilder();
+        try {
+            for (int i = 0; i < interfaces.size(); i++) {
+                buffer.setLength(0);
+                if (i > 0) {
+                    buffer.append("\n\n");
+                }
+                appendInterface(interfaces.get(i), names, buffer);
+                out.append(buffer);
+                progress.emitted(i + 1, interfaces.size());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    /**
+     * Interface name per qualified class name: the simple name, or the qualified name joined with
+     * underscores for classes whose simple name is shared by another emitted interface
+     */
+    private static Map<String, String> interfaceNames(List<ClassModel> interfaces) {
+        Map<String, Integer> simpleNameCounts = new HashMap<>();
+        for (ClassModel model : interfaces) {
+            simpleNameCounts.merge(model.getName(), 1, Integer::sum);
+        }
+        Map<String, String> names = new HashMap<>();
+        for (ClassModel model : interfaces) {
+            String name = simpleNameCounts.get(model.getName()) > 1
+                ? model.getQualifiedName().replace('.', '_') : model.getName();
+            names.put(model.getQualifiedName(), name);
+        }
+        return names;
+    }
+    
+    /**
+     * Orders every interface reachable from the root so that dependencies come first and the
+     * root comes last. Uses an iterative Tarjan traversal, so each class is visited exactly once
+     * and cycles of any depth end up together in one strongly connected component.
+     */
+    private List<ClassModel> orderInterfaces(ClassModel root, GenerationProgress progress) {
+        List<ClassModel> ordered = new ArrayList<>();
+        Map<String, InterfaceNode> nodes = new HashMap<>();
+        Deque<InterfaceNode> componentStack = new ArrayDeque<>();
+        Deque<InterfaceNode> callStack = new ArrayDeque<>();
+        
+        InterfaceNode rootNode = new InterfaceNode(root, nodes.size(), collectDependencies(root));
+        nodes.put(root.getQualifiedName(), rootNode);
+        componentStack.push(rootNode);
+        callStack.push(rootNode);
+        
+        while (!callStack.isEmpty()) {
+            progress.checkCanceled();
+            InterfaceNode node = callStack.peek();
+            if (node.next < node.dependencies.size()) {
+                ClassModel dependency = node.dependencies.get(node.next++);
+                InterfaceNode target = nodes.get(dependency.getQualifiedName());
+                if (target == null) {
+                    target = new InterfaceNode(dependency, nodes.size(), collectDependencies(dependency));
+                    nodes.put(dependency.getQualifiedName(), target);
+                    componentStack.push(target);
+                    callStack.push(target);
+                } else if (target.onStack) {
+                    node.lowLink = Math.min(node.lowLink, target.index);
+                }
                 continue;
             }
             
-            String fieldName = field.getName();
-            String fieldType = convertJavaTypeToTypeScript(field.getType(), project);
-            
-            // Handle optional fields (can be enhanced with annotations)
-            boolean isOptional = isFieldOptional(field);
-            String optionalMarker = isOptional ? "?" : "";
+            callStack.pop();
+            if (!callStack.isEmpty()) {
+                InterfaceNode parent = callStack.peek();
+                parent.lowLink = Math.min(parent.lowLink, node.lowLink);
+            }
             
-            interfaceBody.append("  ").append(fieldName).append(optionalMarker)
-                         .append(": ").append(fieldType).append(";\n");
+            if (node.lowLink == node.index) {
+                // Members come off the stack deepest first, which keeps the order deterministic
+                InterfaceNode member;
+                do {
+                    member = componentStack.pop();
+                    member.onStack = false;
+                    ordered.add(member.model);
+                } while (member != node);
+            }
         }
-        
-        interfaceBody.append("}");
-        
-        currentPath.remove(qualifiedName);
-        recursionDepth--;
-        
-        return interfaceBody.toString();
+        return ordered;
     }
     
-    private List<PsiField> getAllFields(PsiClass psiClass) {
-        List<PsiField> allFields = new ArrayList<>();
-        
-        // Get fields from current class
-        allFields.addAll(Arrays.asList(psiClass.getFields()));
-        
-        // Get fields from superclass (except Object)
-        PsiClass superClass = psiClass.getSuperClass();
-        if (superClass != null && !"java.lang.Object".equals(superClass.getQualifiedName())) {
-            allFields.addAll(getAllFields(superClass));
+    /**
+     * Classes that need their own interface before this one: the extended base first,
+     * then the classes referenced by the rendered fields in field order
+     */
+    private List<ClassModel> collectDependencies(ClassModel model) {
+        Map<String, ClassModel> dependencies = new LinkedHashMap<>();
+        ClassModel base = getExtendedBase(model);
+        if (base != null) {
+            dependencies.put(base.getQualifiedName(), base);
         }
-        
-        return allFields;
+        for (FieldModel field : getRenderedFields(model)) {
+            collectDependencies(field.getType(), dependencies);
+        }
+        return new ArrayList<>(dependencies.values());
     }
     
-    private String convertJavaTypeToTypeScript(PsiType type, Project project) {
-        if (type == null) return "any";
-        
-        String typeName = type.getCanonicalText();
-        
-        // Handle primitive types
-        if (PsiType.INT.equals(type) || "int".equals(typeName) ||
-            PsiType.LONG.equals(type) || "long".equals(typeName) ||
-            PsiType.DOUBLE.equals(type) || "double".equals(typeName) ||
-            PsiType.FLOAT.equals(type) || "float".equals(typeName)) {
-            return "number";
-        } else if (PsiType.BOOLEAN.equals(type) || "boolean".equals(typeName)) {
-            return "boolean";
+    /**
+     * Superclass the interface extends, or null when inherited fields are flattened
+     */
+    private ClassModel getExtendedBase(ClassModel model) {
+        if (!preserveInheritance) {
+            return null;
         }
-        
-        // Handle wrapper types and common classes
-        if ("java.lang.String".equals(typeName) || "String".equals(typeName)) {
-            return "string";
-        } else if ("java.lang.Integer".equals(typeName) || "Integer".equals(typeName) ||
-                   "java.lang.Long".equals(typeName) || "Long".equals(typeName) ||
-                   "java.lang.Double".equals(typeName) || "Double".equals(typeName) ||
-                   "java.lang.Float".equals(typeName) || "Float".equals(typeName)) {
-            return "number";
-        } else if ("java.lang.Boolean".equals(typeName) || "Boolean".equals(typeName)) {
-            return "boolean";
-        } else if ("java.util.Date".equals(typeName) || "Date".equals(typeName) ||
-                   "java.time.LocalDateTime".equals(typeName) || "LocalDateTime".equals(typeName) ||
-                   "java.time.LocalDate".equals(typeName) || "LocalDate".equals(typeName) ||
-                   "java.time.LocalTime".equals(typeName) || "LocalTime".equals(typeName) ||
-                   "java.time.Instant".equals(typeName) || "Instant".equals(typeName)) {
-            return "string"; // Dates are typically represented as ISO strings in JSON
-        } else if ("java.util.UUID".equals(typeName) || "UUID".equals(typeName)) {
-            return "string";
-        } else if ("java.math.BigDecimal".equals(typeName) || "BigDecimal".equals(typeName) ||
-                   "java.math.BigInteger".equals(typeName) || "BigInteger".equals(typeName)) {
-            return "number";
-        } else if ("java.lang.Character".equals(typeName) || "Character".equals(typeName) ||
-                   PsiType.CHAR.equals(type) || "char".equals(typeName)) {
-            return "string";
-        } else if ("java.lang.Byte".equals(typeName) || "Byte".equals(typeName) ||
-                   PsiType.BYTE.equals(type) || "byte".equals(typeName) ||
-                   "java.lang.Short".equals(typeName) || "Short".equals(typeName) ||
-                   PsiType.SHORT.equals(type) || "short".equals(typeName)) {
-            return "number";
+        ClassModel superClass = model.getSuperClass();
+        // JDK, framework and mapped bases have no interface of their own to extend
+        return superClass != null && hasOwnInterface(superClass) ? superClass : null;
+    }
+    
+    private List<FieldModel> getRenderedFields(ClassModel model) {
+        ClassModel superClass = model.getSuperClass();
+        if (!preserveInheritance || superClass == null) {
+            return model.getFields();
         }
-        
-        // Handle arrays
-        if (type instanceof PsiArrayType) {
-            PsiType componentType = ((PsiArrayType) type).getComponentType();
-            return convertJavaTypeToTypeScript(componentType, project) + "[]";
+        if (hasOwnInterface(superClass)) {
+            return model.getDeclaredFields();
+        }
+        List<FieldModel> fields = new ArrayList<>(model.getDeclaredFields());
+        fields.addAll(superClass.getFields());
+        return fields;
+    }
+    
+    private void collectDependencies(TypeRef type, Map<String, ClassModel> dependencies) {
+        switch (type.getKind()) {
+            case ARRAY:
+            case OPTIONAL:
+                collectDependencies(type.getElement(), dependencies);
+                break;
+            case MAP:
+                collectDependencies(type.getKey(), dependencies);
+                collectDependencies(type.getValue(), dependencies);
+                break;
+            case OBJECT: {
+                ClassModel classModel = type.getClassModel();
+                if (!classModel.isEnum() && hasOwnInterface(classModel)) {
+                    dependencies.putIfAbsent(classModel.getQualifiedName(), classModel);
+                }
+                break;
+            }
+            default:
+                break;
+        }
+    }
+    
+    /**
+     * Whether the class is emitted as an interface rather than rendered as a mapped or opaque type
+     */
+    private boolean hasOwnInterface(ClassModel model) {
+        return !model.isSystem() && !isSystemClass(model.getQualifiedName()) &&
+               profile.findTsType(model.getQualifiedName()) == null;
+    }
+    
+    private void appendInterface(ClassModel model, Map<String, String> names, StringBuilder out) {
+        out.append("export interface ").append(interfaceName(model, names));
+        ClassModel base = getExtendedBase(model);
+        if (base != null) {
+            out.append(" extends ").append(interfaceName(base, names));
         }
+        out.append(" {\n");
         
-        // Handle generic types and collections
-        if (type instanceof PsiClassType) {
-            PsiClassType classType = (PsiClassType) type;
-            PsiClass psiClass = classType.resolve();
+        for (FieldModel field : getRenderedFields(model)) {
+            String fieldType = convertToTypeScript(field.getType(), names);
             
-            if (psiClass != null) {
-                String qualifiedName = psiClass.getQualifiedName();
-                
-                // Handle collections (List, Set, Collection, etc.)
-                if (isCollectionType(qualifiedName)) {
-                    PsiType[] parameters = classType.getParameters();
-                    if (parameters.length > 0) {
-                        String elementType = convertJavaTypeToTypeScript(parameters[0], project);
-                        return elementType + "[]";
-                    }
-                    return "any[]";
-                }
-                
-                // Handle Map types
-                if (isMapType(qualifiedName)) {
-                    PsiType[] parameters = classType.getParameters();
-                    if (parameters.length >= 2) {
-                        String keyType = convertJavaTypeToTypeScript(parameters[0], project);
-                        String valueType = convertJavaTypeToTypeScript(parameters[1], project);
-                        
-                        // TypeScript Record type for string keys, otherwise generic object
-                        if ("string".equals(keyType)) {
-                            return "Record<string, " + valueType + ">";
-                        } else if ("number".equals(keyType)) {
-                            return "Record<number, " + valueType + ">";
-                        } else {
-                            return "{ [key: " + keyType + "]: " + valueType + " }";
-                        }
-                    }
+            // Handle optional fields (can be enhanced with annotations)
+            String optionalMarker = field.isOptional() ? "?" : "";
+            
+            out.append("  ").append(field.getName()).append(optionalMarker)
+               .append(": ").append(fieldType).append(";\n");
+        }
+        
+        out.append("}");
+    }
+    
+    private static String interfaceName(ClassModel model, Map<String, String> names) {
+        return names.getOrDefault(model.getQualifiedName(), model.getName());
+    }
+    
+    private String convertToTypeScript(TypeRef type, Map<String, String> names) {
+        switch (type.getKind()) {
+            case BUILTIN: {
+                String mapped = profile.findMappedTsType(type.getBuiltin().getQualifiedName());
+                return mapped != null ? mapped : type.getBuiltin().getTsType();
+            }
+            case ARRAY:
+                return convertToTypeScript(type.getElement(), names) + "[]";
+            case MAP: {
+                if (type.getKey().getKind() == TypeRef.Kind.UNKNOWN) {
                     return "{ [key: string]: any }";
                 }
+                String keyType = convertToTypeScript(type.getKey(), names);
+                String valueType = convertToTypeScript(type.getValue(), names);
                 
-                // Handle Optional
-                if ("java.util.Optional".equals(qualifiedName)) {
-                    PsiType[] parameters = classType.getParameters();
-                    if (parameters.length > 0) {
-                        return convertJavaTypeToTypeScript(parameters[0], project) + " | null";
-                    }
-                    return "any | null";
-                }
-                
-                // Handle enums
-                if (psiClass.isEnum()) {
-                    return generateEnumType(psiClass);
-                }
-                
-                // Handle custom classes - generate interface for them
-                if (!isSystemClass(qualifiedName)) {
-                    String interfaceName = psiClass.getName();
-                    if (interfaceName != null) {
-                        // Check if we need to generate the interface definition
-                        if (!currentPath.contains(qualifiedName) && 
-                            processedInterfaces.getOrDefault(qualifiedName, 0) == 0) {
-                            // Generate the interface definition
-                            String nestedInterface = generateInterface(psiClass, project);
-                            if (nestedInterface != null && !nestedInterface.equals(interfaceName)) {
-                                // Check if interface definition is not already added
-                                String interfaceSignature = "export interface " + interfaceName + " {";
-                                if (!interfaceDefinitions.toString().contains(interfaceSignature)) {
-                                    interfaceDefinitions.append(nestedInterface).append("\n\n");
-                                }
-                            }
-                        }
-                        return interfaceName;
-                    }
-                    return "any";
+                // TypeScript Record type for string keys, otherwise generic object
+                if ("string".equals(keyType)) {
+                    return "Record<string, " + valueType + ">";
+                } else if ("number".equals(keyType)) {
+                    return "Record<number, " + valueType + ">";
+                } else {
+                    return "{ [key: " + keyType + "]: " + valueType + " }";
                 }
             }
+            case OPTIONAL:
+                return convertToTypeScript(type.getElement(), names) + " | null";
+            case OBJECT:
+                return convertClassReference(type.getClassModel(), names);
+            default:
+                return "any";
         }
-        
-        return "any";
     }
     
-    private boolean isFieldOptional(PsiField field) {
-        PsiType type = field.getType();
-        String typeName = type.getCanonicalText();
-        
-        // Check for @Nullable annotations
-        PsiAnnotation[] annotations = field.getAnnotations();
-        for (PsiAnnotation annotation : annotations) {
-            String annotationName = annotation.getQualifiedName();
-            if (annotationName != null && 
-                (annotationName.contains("Nullable") || annotationName.contains("CheckForNull"))) {
-                return true;
-            }
+    private String convertClassReference(ClassModel model, Map<String, String> names) {
+        String mapped = profile.findTsType(model.getQualifiedName());
+        if (mapped != null) {
+            return mapped;
         }
         
-        // Wrapper types are potentially nullable
-        if (typeName.startsWith("java.lang.") && !typeName.equals("java.lang.String")) {
-            return true;
+        // Handle enums
+        if (model.isEnum()) {
+            return generateEnumType(model);
         }
         
-        // Optional types are nullable
-        if (typeName.startsWith("java.util.Optional")) {
-            return true;
+        String qualifiedName = model.getQualifiedName();
+        if (isSystemClass(qualifiedName)) {
+            return "any";
         }
         
-        return false;
+        // Custom classes are emitted as named interfaces, which may refer to each other freely
+        return interfaceName(model, names);
     }
     
     private boolean isSystemClass(String qualifiedName) {
-        if (qualifiedName == null) return true;
-        
-        return qualifiedName.startsWith("java.") ||
-               qualifiedName.startsWith("javax.") ||
-               qualifiedName.startsWith("sun.") ||
-               qualifiedName.startsWith("com.sun.") ||
-               qualifiedName.startsWith("org.springframework.") ||
-               qualifiedName.startsWith("com.fasterxml.jackson.");
-    }
-    
-    private boolean isCollectionType(String qualifiedName) {
-        return "java.util.List".equals(qualifiedName) ||
-               "java.util.Set".equals(qualifiedName) ||
-               "java.util.Collection".equals(qualifiedName) ||
-               "java.util.ArrayList".equals(qualifiedName) ||
-               "java.util.LinkedList".equals(qualifiedName) ||
-               "java.util.Vector".equals(qualifiedName) ||
-               "java.util.HashSet".equals(qualifiedName) ||
-               "java.util.LinkedHashSet".equals(qualifiedName) ||
-               "java.util.TreeSet".equals(qualifiedName) ||
-               "java.util.Queue".equals(qualifiedName) ||
-               "java.util.Deque".equals(qualifiedName);
+        return TypeModelBuilder.isSystemClass(qualifiedName);
     }
     
-    private boolean isMapType(String qualifiedName) {
-        return "java.util.Map".equals(qualifiedName) ||
-               "java.util.HashMap".equals(qualifiedName) ||
-               "java.util.LinkedHashMap".equals(qualifiedName) ||
-               "java.util.TreeMap".equals(qualifiedName) ||
-               "java.util.ConcurrentHashMap".equals(qualifiedName);
-    }
-    
-    private String generateEnumType(PsiClass enumClass) {
-        PsiField[] enumConstants = enumClass.getFields();
-        StringBuilder enumType = new StringBuilder();
-        
+    private String generateEnumType(ClassModel enumModel) {
         List<String> constantNames = new ArrayList<>();
-        for (PsiField field : enumConstants) {
-            if (field.hasModifierProperty(PsiModifier.STATIC) && 
-                field.hasModifierProperty(PsiModifier.FINAL) &&
-                field.hasModifierProperty(PsiModifier.PUBLIC)) {
-                constantNames.add('"' + field.getName() + '"');
-            }
+        for (String constant : enumModel.getEnumConstants()) {
+            constantNames.add('"' + constant + '"');
         }
         
         if (constantNames.isEmpty()) {
@@ -356,68 +400,6 @@ public class TypeScriptGenerator {
         return String.join(" | ", constantNames);
     }
     
-    private void collectAllInterfaces(PsiClass psiClass, Project project) {
-        if (psiClass == null) return;
-        
-        String qualifiedName = psiClass.getQualifiedName();
-        if (qualifiedName == null || isSystemClass(qualifiedName) || 
-            currentPath.contains(qualifiedName) || recursionDepth > MAX_RECURSION_DEPTH) {
-            return;
-        }
-        
-        currentPath.add(qualifiedName);
-        recursionDepth++;
-        
-        try {
-            // Process all fields to discover dependent interfaces
-            List<PsiField> fields = getAllFields(psiClass);
-            for (PsiField field : fields) {
-                if (field.hasModifierProperty(PsiModifier.STATIC) || 
-                    field.hasModifierProperty(PsiModifier.FINAL)) {
-                    continue;
-                }
-                collectInterfacesFromType(field.getType(), project);
-            }
-        } finally {
-            currentPath.remove(qualifiedName);
-            recursionDepth--;
-        }
-    }
-    
-    private void collectInterfacesFromType(PsiType type, Project project) {
-        if (type == null) return;
-        
-        // Handle arrays
-        if (type instanceof PsiArrayType) {
-            collectInterfacesFromType(((PsiArrayType) type).getComponentType(), project);
-            return;
-        }
-        
-        // Handle generic types
-        if (type instanceof PsiClassType) {
-            PsiClassType classType = (PsiClassType) type;
-            PsiClass psiClass = classType.resolve();
-            
-            if (psiClass != null) {
-                String qualifiedName = psiClass.getQualifiedName();
-                
-                // Handle collections and maps - process their type parameters
-                if (isCollectionType(qualifiedName) || isMapType(qualifiedName)) {
-                    PsiType[] parameters = classType.getParameters();
-                    for (PsiType parameter : parameters) {
-                        collectInterfacesFromType(parameter, project);
-                    }
-                    return;
-                }
-                
-                // Handle custom classes
-                if (!isSystemClass(qualifiedName)) {
-                    collectAllInterfaces(psiClass, project);
-                }
-            }
-        }
-    }
-    
     /**
      * Sanitizes error messages for use in TypeScript comments
      */
@@ -428,28 +410,19 @@ public class TypeScriptGenerator {
                      .trim();
     }
     
-    /**
-     * Enhanced timeout and circular reference checking
-     */
-    private boolean shouldStopProcessing(String qualifiedName) {
-        // Check timeout
-        if (System.currentTimeMillis() - startTime > MAX_PROCESSING_TIME_MS) {
-            LOGGER.warning("TypeScript generation timeout exceeded");
-            return true;
+    private static final class InterfaceNode {
+        final ClassModel model;
+        final int index;
+        final List<ClassModel> dependencies;
+        int lowLink;
+        int next;
+        boolean onStack = true;
+        
+        InterfaceNode(ClassModel model, int index, List<ClassModel> dependencies) {
+            this.model = model;
+            this.index = index;
+            this.lowLink = index;
+            this.dependencies = dependencies;
         }
-        
-        // Check circular reference
-        if (processingClasses.contains(qualifiedName)) {
-            LOGGER.fine("Circular reference detected for class: " + qualifiedName);
-            return true;
-        }
-        
-        // Check recursion limits
-        if (recursionDepth > MAX_RECURSION_DEPTH) {
-            LOGGER.fine("Maximum recursion depth exceeded");
-            return true;
-        }
-        
-        return false;
     }
-}
\ No newline at end of file
+}
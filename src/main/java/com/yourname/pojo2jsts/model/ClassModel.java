@@ -0,0 +1,81 @@
+package com.yourname.pojo2jsts.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Resolved view of a Java class: its serializable fields, or its constants for enums.
+ * Built once from PSI by {@link TypeModelBuilder} and shared by all emitters.
+ */
+public class ClassModel {
+    private final String qualifiedName;
+    private final String name;
+    private final boolean isEnum;
+    private final boolean system;   // JDK/framework class that is not expanded
+    private ClassModel superClass;
+    private List<FieldModel> declaredFields = Collections.emptyList();
+    private volatile List<FieldModel> fields;   // memoized layout including inherited fields
+    private List<String> enumConstants = Collections.emptyList();
+    
+    public ClassModel(String qualifiedName, String name, boolean isEnum, boolean system) {
+        this.qualifiedName = qualifiedName;
+        this.name = name;
+        this.isEnum = isEnum;
+        this.system = system;
+    }
+    
+    public String getQualifiedName() { return qualifiedName; }
+    public String getName() { return name; }
+    public boolean isEnum() { return isEnum; }
+    public boolean isSystem() { return system; }
+    
+    /**
+     * Model of the superclass whose fields are inherited, or null when it is {@code Object}
+     */
+    public ClassModel getSuperClass() { return superClass; }
+    public void setSuperClass(ClassModel superClass) {
+        this.superClass = superClass;
+        this.fields = null;
+    }
+    
+    /**
+     * Non-static, non-final fields declared by this class itself
+     */
+    public List<FieldModel> getDeclaredFields() { return declaredFields; }
+    public void setDeclaredFields(List<FieldModel> declaredFields) {
+        this.declaredFields = Collections.unmodifiableList(declaredFields);
+        this.fields = null;
+    }
+    
+    /**
+     * Non-static, non-final fields including inherited ones, own fields first.
+     * Computed once per class, so a base shared by many subclasses is only flattened once.
+     */
+    public List<FieldModel> getFields() {
+        List<FieldModel> result = fields;
+        if (result == null) {
+            List<FieldModel> inherited = superClass != null ? superClass.getFields() : Collections.emptyList();
+            if (inherited.isEmpty()) {
+                result = declaredFields;
+            } else {
+                List<FieldModel> combined = new ArrayList<>(declaredFields.size() + inherited.size());
+                combined.addAll(declaredFields);
+                combined.addAll(inherited);
+                result = Collections.unmodifiableList(combined);
+            }
+            fields = result;
+        }
+        return result;
+    }
+    
+    public List<String> getEnumConstants() { return enumConstants; }
+    public void setEnumConstants(List<String> enumConstants) {
+        this.enumConstants = Collections.unmodifiableList(enumConstants);
+    }
+    
+    @Override
+    public String toString() {
+        return "ClassModel{" + qualifiedName + '}';
+    }
+}
@@ -0,0 +1,25 @@
+package com.yourname.pojo2jsts.model;
+
+/**
+ * A single serializable field of a {@link ClassModel}
+ */
+public class FieldModel {
+    private final String name;
+    private final TypeRef type;
+    private final boolean optional;  // nullable annotation, wrapper or Optional type
+    
+    public FieldModel(String name, TypeRef type, boolean optional) {
+        this.name = name;
+        this.type = type;
+        this.optional = optional;
+    }
+    
+    public String getName() { return name; }
+    public TypeRef getType() { return type; }
+    public boolean isOptional() { return optional; }
+    
+    @Override
+    public String toString() {
+        return name + (optional ? "?: " : ": ") + type;
+    }
+}
@@ -0,0 +1,70 @@
+package com.yourname.pojo2jsts.model;
+
+import com.intellij.openapi.progress.ProgressIndicator;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Cancellation and progress reporting for one generation run.
+ * Building the class model fills the first half of the progress bar and emitting the
+ * output the second half. Without an indicator every call is a no-op, so the generators
+ * can also run headless.
+ */
+public final class GenerationProgress {
+
+    public static final GenerationProgress NONE = new GenerationProgress(null);
+
+    private static final double BUILD_SHARE = 0.5;
+
+    private final ProgressIndicator indicator;
+    private double fraction;
+
+    private GenerationProgress(@Nullable ProgressIndicator indicator) {
+        this.indicator = indicator;
+    }
+
+    public static GenerationProgress of(@Nullable ProgressIndicator indicator) {
+        return indicator != null ? new GenerationProgress(indicator) : NONE;
+    }
+
+    /**
+     * Throws {@link com.intellij.openapi.progress.ProcessCanceledException} once the user cancelled
+     */
+    public void checkCanceled() {
+        if (indicator != null) {
+            indicator.checkCanceled();
+        }
+    }
+
+    public void setText(String text) {
+        if (indicator != null) {
+            indicator.setText(text);
+        }
+    }
+
+    /**
+     * Reports that {@code done} of the {@code discovered} classes in the graph are resolved
+     */
+    public void classResolved(String className, int done, int discovered) {
+        if (indicator == null) return;
+        indicator.checkCanceled();
+        indicator.setText2(className);
+        report(BUILD_SHARE * done / Math.max(discovered, 1));
+    }
+
+    /**
+     * Reports that {@code done} of {@code total} output units are written
+     */
+    public void emitted(long done, long total) {
+        if (indicator == null) return;
+        indicator.checkCanceled();
+        report(BUILD_SHARE + (1 - BUILD_SHARE) * done / Math.max(total, 1L));
+    }
+
+    private void report(double value) {
+        // The graph grows while it is discovered, so never let the bar move backwards
+        if (value > fraction) {
+            fraction = Math.min(value, 1.0);
+            indicator.setFraction(fraction);
+        }
+    }
+}
@@ -0,0 +1,275 @@
+package com.yourname.pojo2jsts.model;
+
+import com.intellij.psi.*;
+import com.yourname.pojo2jsts.generators.BuiltinType;
+
+import java.util.*;
+
+/**
+ * Builds the {@link ClassModel} graph for a root class in a single PSI traversal.
+ * Every reachable class is resolved exactly once; cycles become shared references
+ * between models, so emitters decide for themselves how to cut them.
+ */
+public class TypeModelBuilder {
+
+    private static final Set<String> COLLECTION_TYPES = Set.of(
+        "java.util.List", "java.util.Set", "java.util.Collection",
+        "java.util.ArrayList", "java.util.LinkedList", "java.util.Vector",
+        "java.util.HashSet", "java.util.LinkedHashSet", "java.util.TreeSet",
+        "java.util.Queue", "java.util.Deque", "java.util.ArrayDeque"
+    );
+
+    private static final Set<String> MAP_TYPES = Set.of(
+        "java.util.Map", "java.util.HashMap", "java.util.LinkedHashMap",
+        "java.util.TreeMap", "java.util.concurrent.ConcurrentHashMap", "java.util.WeakHashMap",
+        "java.util.IdentityHashMap", "java.util.EnumMap"
+    );
+
+    private final Map<String, ClassModel> completed;
+    private final Map<String, ClassModel> models = new HashMap<>();
+    private final Deque<PendingClass> pending = new ArrayDeque<>();
+    private GenerationProgress progress = GenerationProgress.NONE;
+    private int populated;
+
+    public TypeModelBuilder() {
+        this(Collections.emptyMap());
+    }
+
+    /**
+     * @param completed fully built models from earlier runs that can be reused as-is
+     */
+    public TypeModelBuilder(Map<String, ClassModel> completed) {
+        this.completed = completed;
+    }
+
+    /**
+     * Resolves the root class and everything reachable from its fields
+     */
+    public ClassModel build(PsiClass psiClass) {
+        return build(psiClass, GenerationProgress.NONE);
+    }
+
+    /**
+     * Same as {@link #build(PsiClass)}, checking for cancellation at every class and field
+     * and reporting progress against the number of classes discovered so far
+     */
+    public ClassModel build(PsiClass psiClass, GenerationProgress progress) {
+        ClassModel root = start(psiClass, progress);
+        while (!isDone()) {
+            step(Integer.MAX_VALUE);
+        }
+        return root;
+    }
+
+    /**
+     * Resolves the root class and queues it, without populating anything yet.
+     * Together with {@link #step(int)} this lets callers build the graph in several
+     * read actions instead of one long one.
+     */
+    public ClassModel start(PsiClass psiClass, GenerationProgress progress) {
+        this.progress = progress;
+        return resolveClass(psiClass);
+    }
+
+    /**
+     * Populates up to {@code maxClasses} queued classes. Each class is only taken off the
+     * queue once it is fully populated, so a step interrupted part-way (for example by a
+     * write action cancelling the read action) can simply be run again.
+     */
+    public void step(int maxClasses) {
+        for (int i = 0; i < maxClasses && !pending.isEmpty(); i++) {
+            PendingClass next = pending.peek();
+            progress.classResolved(next.model.getName(), populated, populated + pending.size());
+            populate(next.model, next.psiClass);
+            // Classes discovered while populating were appended, so the head is still this one
+            pending.poll();
+            populated++;
+        }
+    }
+
+    public boolean isDone() {
+        return pending.isEmpty();
+    }
+
+    /**
+     * Models created by this builder, keyed by qualified name
+     */
+    public Map<String, ClassModel> getBuiltModels() {
+        return Collections.unmodifiableMap(models);
+    }
+
+    private ClassModel resolveClass(PsiClass psiClass) {
+        String qualifiedName = psiClass.getQualifiedName();
+        if (qualifiedName == null) {
+            // Type parameters and anonymous classes have nothing to expand
+            return null;
+        }
+
+        ClassModel model = completed.get(qualifiedName);
+        if (model == null) {
+            model = models.get(qualifiedName);
+        }
+        if (model != null) {
+            return model;
+        }
+
+        // JDK and framework classes outside the builtin table still get their fields sampled,
+        // they are only flagged so the TypeScript emitter does not declare interfaces for them
+        model = new ClassModel(qualifiedName, psiClass.getName(), psiClass.isEnum(), isSystemClass(qualifiedName));
+        models.put(qualifiedName, model);
+        pending.add(new PendingClass(model, psiClass));
+        return model;
+    }
+
+    private void populate(ClassModel model, PsiClass psiClass) {
+        if (psiClass.isEnum()) {
+            List<String> constants = new ArrayList<>();
+            for (PsiField field : psiClass.getFields()) {
+                if (field.hasModifierProperty(PsiModifier.STATIC) &&
+                    field.hasModifierProperty(PsiModifier.FINAL) &&
+                    field.hasModifierProperty(PsiModifier.PUBLIC)) {
+                    constants.add(field.getName());
+                }
+            }
+            model.setEnumConstants(constants);
+            return;
+        }
+
+        List<FieldModel> fields = new ArrayList<>();
+        for (PsiField field : psiClass.getFields()) {
+            progress.checkCanceled();
+            // Skip static and final fields
+            if (field.hasModifierProperty(PsiModifier.STATIC) ||
+                field.hasModifierProperty(PsiModifier.FINAL)) {
+                continue;
+            }
+            fields.add(new FieldModel(field.getName(), resolveType(field.getType()), isFieldOptional(field)));
+        }
+        model.setDeclaredFields(fields);
+
+        // Inherited fields are laid out once on the superclass model and shared by every subclass
+        ClassModel superModel = resolveSuperClass(psiClass.getSuperClass());
+        if (superModel != null && !inheritsFrom(superModel, model)) {
+            model.setSuperClass(superModel);
+        }
+    }
+
+    private ClassModel resolveSuperClass(PsiClass superClass) {
+        if (superClass == null) return null;
+
+        String qualifiedName = superClass.getQualifiedName();
+        if (qualifiedName == null || "java.lang.Object".equals(qualifiedName)) {
+            return null;
+        }
+        return resolveClass(superClass);
+    }
+
+    /**
+     * Guards against cyclic hierarchies in code that does not compile yet
+     */
+    private static boolean inheritsFrom(ClassModel candidate, ClassModel model) {
+        for (ClassModel current = candidate; current != null; current = current.getSuperClass()) {
+            if (current == model) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private TypeRef resolveType(PsiType type) {
+        if (type == null) return TypeRef.UNKNOWN;
+
+        // Primitives, wrappers, dates and other well-known types
+        BuiltinType builtin = BuiltinType.of(type);
+        if (builtin != null) {
+            return TypeRef.builtin(builtin);
+        }
+
+        // Handle arrays
+        if (type instanceof PsiArrayType) {
+            return TypeRef.arrayOf(resolveType(((PsiArrayType) type).getComponentType()));
+        }
+
+        if (type instanceof PsiClassType) {
+            PsiClassType classType = (PsiClassType) type;
+            PsiClass psiClass = classType.resolve();
+            if (psiClass == null) {
+                return TypeRef.UNKNOWN;
+            }
+
+            String qualifiedName = psiClass.getQualifiedName();
+            PsiType[] parameters = classType.getParameters();
+
+            if (isCollectionType(qualifiedName)) {
+                return TypeRef.arrayOf(parameters.length > 0 ? resolveType(parameters[0]) : TypeRef.UNKNOWN);
+            }
+
+            if (isMapType(qualifiedName)) {
+                if (parameters.length >= 2) {
+                    return TypeRef.mapOf(resolveType(parameters[0]), resolveType(parameters[1]));
+                }
+                // Raw map: neither keys nor values can be typed, so it is emitted empty
+                return TypeRef.mapOf(TypeRef.UNKNOWN, TypeRef.UNKNOWN);
+            }
+
+            if ("java.util.Optional".equals(qualifiedName)) {
+                return TypeRef.optionalOf(parameters.length > 0 ? resolveType(parameters[0]) : TypeRef.UNKNOWN);
+            }
+
+            ClassModel classModel = resolveClass(psiClass);
+            return classModel != null ? TypeRef.object(classModel) : TypeRef.UNKNOWN;
+        }
+
+        return TypeRef.UNKNOWN;
+    }
+
+    private boolean isFieldOptional(PsiField field) {
+        // Check for @Nullable annotations
+        for (PsiAnnotation annotation : field.getAnnotations()) {
+            String annotationName = annotation.getQualifiedName();
+            if (annotationName != null &&
+                (annotationName.contains("Nullable") || annotationName.contains("CheckForNull"))) {
+                return true;
+            }
+        }
+
+        String typeName = field.getType().getCanonicalText();
+
+        // Wrapper types are potentially nullable
+        if (typeName.startsWith("java.lang.") && !typeName.equals("java.lang.String")) {
+            return true;
+        }
+
+        // Optional types are nullable
+        return typeName.startsWith("java.util.Optional");
+    }
+
+    public static boolean isCollectionType(String qualifiedName) {
+        return COLLECTION_TYPES.contains(qualifiedName);
+    }
+
+    public static boolean isMapType(String qualifiedName) {
+        return MAP_TYPES.contains(qualifiedName);
+    }
+
+    public static boolean isSystemClass(String qualifiedName) {
+        if (qualifiedName == null) return true;
+
+        return qualifiedName.startsWith("java.") ||
+               qualifiedName.startsWith("javax.") ||
+               qualifiedName.startsWith("sun.") ||
+               qualifiedName.startsWith("com.sun.") ||
+               qualifiedName.startsWith("org.springframework.") ||
+               qualifiedName.startsWith("com.fasterxml.jackson.");
+    }
+
+    private static final class PendingClass {
+        final ClassModel model;
+        final PsiClass psiClass;
+
+        PendingClass(ClassModel model, PsiClass psiClass) {
+            this.model = model;
+            this.psiClass = psiClass;
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.yourname.pojo2jsts.model;
+
+import com.intellij.lang.java.JavaLanguage;
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.components.Service;
+import com.intellij.openapi.project.Project;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.util.PsiModificationTracker;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+
+/**
+ * Project-level cache of resolved class models, keyed by qualified name.
+ * Models reference each other, so the whole cache is dropped as soon as the
+ * Java structure modification count moves; until then repeated generations
+ * reuse every class resolved by earlier runs.
+ */
+@Service(Service.Level.PROJECT)
+public final class TypeModelCache {
+
+    private static final Logger LOGGER = Logger.getLogger(TypeModelCache.class.getName());
+
+    // Small enough that a chunk never delays a write action noticeably
+    private static final int CLASSES_PER_READ_ACTION = 16;
+
+    private final Project project;
+    private final Map<String, ClassModel> models = new ConcurrentHashMap<>();
+    private long modificationCount = -1;
+
+    public TypeModelCache(@NotNull Project project) {
+        this.project = project;
+    }
+
+    public static TypeModelCache getInstance(@NotNull Project project) {
+        return project.getService(TypeModelCache.class);
+    }
+
+    /**
+     * Returns the model for the class, building only the parts of the graph not cached yet.
+     * Must be called on a background thread without read access.
+     */
+    public ClassModel getModel(@NotNull PsiClass psiClass) {
+        return getModel(psiClass, GenerationProgress.NONE);
+    }
+
+    /**
+     * Same as {@link #getModel(PsiClass)}, reporting progress while building.
+     * The graph is resolved in short non-blocking read actions of a few classes each, so
+     * pending write actions are never held up by a large model. A chunk interrupted by a
+     * write action is simply retried; if Java PSI actually changed in between, the build
+     * starts over. A cancelled build publishes nothing, so the cache never holds partially
+     * populated models.
+     */
+    public ClassModel getModel(@NotNull PsiClass psiClass, @NotNull GenerationProgress progress) {
+        while (true) {
+            Build build = new Build(psiClass, progress);
+            while (!build.finished) {
+                progress.checkCanceled();
+                ReadAction.nonBlocking(build::advance)
+                        .inSmartMode(project)
+                        .executeSynchronously();
+            }
+            if (!build.stale) {
+                return build.root;
+            }
+            LOGGER.fine("Java structure changed while building class models, restarting");
+        }
+    }
+
+    public void clear() {
+        models.clear();
+    }
+
+    /**
+     * Drops the cache if Java PSI changed since it was filled; returns the current count
+     */
+    private synchronized long invalidateIfChanged() {
+        long current = currentModificationCount();
+        if (current != modificationCount) {
+            if (!models.isEmpty()) {
+                LOGGER.fine("Java structure changed, dropping " + models.size() + " cached class models");
+            }
+            models.clear();
+            modificationCount = current;
+        }
+        return current;
+    }
+
+    private synchronized void publish(TypeModelBuilder builder, long stamp) {
+        // Models built against an older PSI state must not leak into a fresh cache
+        if (stamp == modificationCount) {
+            builder.getBuiltModels().forEach(models::putIfAbsent);
+        }
+    }
+
+    private long currentModificationCount() {
+        return PsiModificationTracker.getInstance(project)
+                .forLanguage(JavaLanguage.INSTANCE)
+                .getModificationCount();
+    }
+
+    /**
+     * One attempt at building a model, advanced one read action at a time.
+     * Every step leaves the state consistent, so a read action cancelled half-way can rerun it.
+     */
+    private final class Build {
+        private final PsiClass psiClass;
+        private final GenerationProgress progress;
+        private TypeModelBuilder builder;
+        private long stamp;
+        private ClassModel root;
+        private boolean finished;
+        private boolean stale;
+
+        Build(PsiClass psiClass, GenerationProgress progress) {
+            this.psiClass = psiClass;
+            this.progress = progress;
+        }
+
+        void advance() {
+            if (builder == null) {
+                stamp = invalidateIfChanged();
+                if (!psiClass.isValid()) {
+                    finished = true;
+                    return;
+                }
+                String qualifiedName = psiClass.getQualifiedName();
+                ClassModel cached = qualifiedName != null ? models.get(qualifiedName) : null;
+                if (cached != null) {
+                    root = cached;
+                    finished = true;
+                    return;
+                }
+                TypeModelBuilder started = new TypeModelBuilder(models);
+                root = started.start(psiClass, progress);
+                builder = started;
+            } else if (currentModificationCount() != stamp) {
+                stale = true;
+                finished = true;
+                return;
+            }
+
+            builder.step(CLASSES_PER_READ_ACTION);
+            if (builder.isDone()) {
+                publish(builder, stamp);
+                finished = true;
+            }
+        }
+    }
+}
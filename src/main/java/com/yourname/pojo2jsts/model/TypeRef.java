@@ -0,0 +1,67 @@
+package com.yourname.pojo2jsts.model;
+
+import com.yourname.pojo2jsts.generators.BuiltinType;
+
+/**
+ * Resolved field type. Collections and Java arrays both become {@link Kind#ARRAY},
+ * user classes and enums become {@link Kind#OBJECT} pointing at their shared {@link ClassModel}.
+ */
+public final class TypeRef {
+    
+    public enum Kind { BUILTIN, ARRAY, MAP, OPTIONAL, OBJECT, UNKNOWN }
+    
+    public static final TypeRef UNKNOWN = new TypeRef(Kind.UNKNOWN, null, null, null, null);
+    
+    private final Kind kind;
+    private final BuiltinType builtin;
+    private final TypeRef element;   // ARRAY element, OPTIONAL content or MAP key
+    private final TypeRef value;     // MAP value
+    private final ClassModel classModel;
+    
+    private TypeRef(Kind kind, BuiltinType builtin, TypeRef element, TypeRef value, ClassModel classModel) {
+        this.kind = kind;
+        this.builtin = builtin;
+        this.element = element;
+        this.value = value;
+        this.classModel = classModel;
+    }
+    
+    public static TypeRef builtin(BuiltinType builtin) {
+        return new TypeRef(Kind.BUILTIN, builtin, null, null, null);
+    }
+    
+    public static TypeRef arrayOf(TypeRef element) {
+        return new TypeRef(Kind.ARRAY, null, element, null, null);
+    }
+    
+    public static TypeRef mapOf(TypeRef key, TypeRef value) {
+        return new TypeRef(Kind.MAP, null, key, value, null);
+    }
+    
+    public static TypeRef optionalOf(TypeRef content) {
+        return new TypeRef(Kind.OPTIONAL, null, content, null, null);
+    }
+    
+    public static TypeRef object(ClassModel classModel) {
+        return new TypeRef(Kind.OBJECT, null, null, null, classModel);
+    }
+    
+    public Kind getKind() { return kind; }
+    public BuiltinType getBuiltin() { return builtin; }
+    public TypeRef getElement() { return element; }
+    public TypeRef getKey() { return element; }
+    public TypeRef getValue() { return value; }
+    public ClassModel getClassModel() { return classModel; }
+    
+    @Override
+    public String toString() {
+        switch (kind) {
+            case BUILTIN: return builtin.name();
+            case ARRAY: return element + "[]";
+            case MAP: return "Map<" + element + ", " + value + ">";
+            case OPTIONAL: return "Optional<" + element + ">";
+            case OBJECT: return classModel.getName();
+            default: return "?";
+        }
+    }
+}
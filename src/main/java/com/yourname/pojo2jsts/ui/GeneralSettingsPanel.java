@@ -7,6 +7,8 @@ import com.yourname.pojo2jsts.config.PluginSettings;
 
 import javax.swing.*;
 import java.awt.*;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * General settings panel for basic plugin configuration
@@ -17,7 +19,14 @@ public class GeneralSettingsPanel extends JPanel {
     private JBTextField arrayMaxSizeField;
     private JBCheckBox enableRandomValuesCheckbox;
     private JBCheckBox formatOutputCheckbox;
+    private JBTextField jsonIndentSizeField;
+    private JBCheckBox preserveInheritanceCheckbox;
     private JBCheckBox copyToClipboardCheckbox;
+    private JBTextField randomSeedField;
+    private JBCheckBox memoryMappedOutputCheckbox;
+    private JBCheckBox compressOutputCheckbox;
+    private JBTextField compressionLevelField;
+    private JBTextField exportChunkSizeField;
     
     public GeneralSettingsPanel() {
         initComponents();
@@ -29,14 +38,28 @@ public class GeneralSettingsPanel extends JPanel {
         arrayMaxSizeField = new JBTextField(5);
         enableRandomValuesCheckbox = new JBCheckBox("Generate random values for primitive types");
         formatOutputCheckbox = new JBCheckBox("Format generated output (JSON/TypeScript)");
+        jsonIndentSizeField = new JBTextField(5);
+        preserveInheritanceCheckbox = new JBCheckBox("Use 'extends' for superclasses in TypeScript interfaces");
         copyToClipboardCheckbox = new JBCheckBox("Automatically copy results to clipboard");
+        randomSeedField = new JBTextField(12);
+        memoryMappedOutputCheckbox = new JBCheckBox("Write file exports through memory-mapped regions");
+        compressOutputCheckbox = new JBCheckBox("Compress file exports with gzip");
+        compressionLevelField = new JBTextField(5);
+        exportChunkSizeField = new JBTextField(10);
         
         // Set tooltips
         maxRecursionDepthField.setToolTipText("Maximum depth for recursive object generation (1-20)");
         arrayMaxSizeField.setToolTipText("Maximum number of elements in generated arrays (1-10)");
         enableRandomValuesCheckbox.setToolTipText("When enabled, generates random values. When disabled, uses placeholder values.");
         formatOutputCheckbox.setToolTipText("Apply proper indentation and formatting to generated output");
+        jsonIndentSizeField.setToolTipText("Number of spaces per nesting level in formatted JSON (1-8)");
+        preserveInheritanceCheckbox.setToolTipText("Emit each base class once and extend it instead of repeating inherited fields");
         copyToClipboardCheckbox.setToolTipText("Automatically copy generated content to system clipboard");
+        randomSeedField.setToolTipText("Fixed seed for reproducible output; leave empty for different values every time");
+        memoryMappedOutputCheckbox.setToolTipText("Map the target file into memory instead of writing it through a direct buffer (not used on Windows)");
+        compressOutputCheckbox.setToolTipText("Stream exports through gzip; parallel chunks become separate gzip members");
+        compressionLevelField.setToolTipText("Gzip compression level, 1 (fastest) to 9 (smallest)");
+        exportChunkSizeField.setToolTipText("Records per chunk when large exports are generated in parallel (1000-10000000)");
     }
     
     private void layoutComponents() {
@@ -85,11 +108,67 @@ public class GeneralSettingsPanel extends JPanel {
         gbc.insets = new Insets(5, 0, 5, 0);
         add(formatOutputCheckbox, gbc);
         
+        // JSON indent size
         gbc.gridy = 5;
+        gbc.gridwidth = 1;
+        gbc.anchor = GridBagConstraints.EAST;
+        gbc.insets = new Insets(5, 0, 5, 10);
+        add(new JBLabel("JSON Indent Size:"), gbc);
+        
+        gbc.gridx = 1;
+        gbc.anchor = GridBagConstraints.WEST;
+        add(jsonIndentSizeField, gbc);
+        
+        gbc.gridx = 0; gbc.gridy = 6;
+        gbc.gridwidth = 2;
+        gbc.insets = new Insets(5, 0, 5, 0);
+        add(preserveInheritanceCheckbox, gbc);
+        
+        gbc.gridy = 7;
         add(copyToClipboardCheckbox, gbc);
         
+        // Random seed
+        gbc.gridy = 8;
+        gbc.gridwidth = 1;
+        gbc.anchor = GridBagConstraints.EAST;
+        gbc.insets = new Insets(5, 0, 5, 10);
+        add(new JBLabel("Random Seed:"), gbc);
+        
+        gbc.gridx = 1;
+        gbc.anchor = GridBagConstraints.WEST;
+        add(randomSeedField, gbc);
+        
+        gbc.gridx = 0; gbc.gridy = 9;
+        gbc.gridwidth = 2;
+        gbc.insets = new Insets(5, 0, 5, 0);
+        add(memoryMappedOutputCheckbox, gbc);
+        
+        gbc.gridy = 10;
+        add(compressOutputCheckbox, gbc);
+        
+        // Compression level
+        gbc.gridy = 11;
+        gbc.gridwidth = 1;
+        gbc.anchor = GridBagConstraints.EAST;
+        gbc.insets = new Insets(5, 0, 5, 10);
+        add(new JBLabel("Compression Level:"), gbc);
+        
+        gbc.gridx = 1;
+        gbc.anchor = GridBagConstraints.WEST;
+        add(compressionLevelField, gbc);
+        
+        // Export chunk size
+        gbc.gridx = 0; gbc.gridy = 12;
+        gbc.anchor = GridBagConstraints.EAST;
+        add(new JBLabel("Export Chunk Size:"), gbc);
+        
+        gbc.gridx = 1;
+        gbc.anchor = GridBagConstraints.WEST;
+        add(exportChunkSizeField, gbc);
+        
         // Add description
-        gbc.gridy = 6;
+        gbc.gridx = 0; gbc.gridy = 13;
+        gbc.gridwidth = 2;
         gbc.insets = new Insets(20, 0, 0, 0);
         gbc.fill = GridBagConstraints.HORIZONTAL;
         JTextArea description = new JTextArea(3, 50);
@@ -106,7 +185,7 @@ public class GeneralSettingsPanel extends JPanel {
         add(description, gbc);
         
         // Add glue to push everything to top
-        gbc.gridy = 7;
+        gbc.gridy = 14;
         gbc.weighty = 1.0;
         add(Box.createVerticalGlue(), gbc);
     }
@@ -116,7 +195,14 @@ public class GeneralSettingsPanel extends JPanel {
                !String.valueOf(settings.getArrayMaxSize()).equals(arrayMaxSizeField.getText()) ||
                settings.isEnableRandomValues() != enableRandomValuesCheckbox.isSelected() ||
                settings.isFormatOutput() != formatOutputCheckbox.isSelected() ||
-               settings.isCopyToClipboard() != copyToClipboardCheckbox.isSelected();
+               !String.valueOf(settings.getJsonIndentSize()).equals(jsonIndentSizeField.getText()) ||
+               settings.isPreserveInheritance() != preserveInheritanceCheckbox.isSelected() ||
+               settings.isCopyToClipboard() != copyToClipboardCheckbox.isSelected() ||
+               !formatSeed(settings).equals(randomSeedField.getText().trim()) ||
+               settings.isMemoryMappedOutput() != memoryMappedOutputCheckbox.isSelected() ||
+               settings.isCompressOutput() != compressOutputCheckbox.isSelected() ||
+               !String.valueOf(settings.getCompressionLevel()).equals(compressionLevelField.getText()) ||
+               !String.valueOf(settings.getExportChunkSize()).equals(exportChunkSizeField.getText());
     }
     
     public void apply(PluginSettings settings) {
@@ -134,9 +220,41 @@ public class GeneralSettingsPanel extends JPanel {
             settings.setArrayMaxSize(3); // fallback to default
         }
         
+        try {
+            int indentSize = Integer.parseInt(jsonIndentSizeField.getText());
+            settings.setJsonIndentSize(indentSize);
+        } catch (NumberFormatException e) {
+            settings.setJsonIndentSize(2); // fallback to default
+        }
+        
         settings.setEnableRandomValues(enableRandomValuesCheckbox.isSelected());
         settings.setFormatOutput(formatOutputCheckbox.isSelected());
+        settings.setPreserveInheritance(preserveInheritanceCheckbox.isSelected());
         settings.setCopyToClipboard(copyToClipboardCheckbox.isSelected());
+        settings.setMemoryMappedOutput(memoryMappedOutputCheckbox.isSelected());
+        settings.setCompressOutput(compressOutputCheckbox.isSelected());
+        
+        try {
+            settings.setCompressionLevel(Integer.parseInt(compressionLevelField.getText()));
+        } catch (NumberFormatException e) {
+            settings.setCompressionLevel(6); // fallback to default
+        }
+        
+        try {
+            settings.setExportChunkSize(Integer.parseInt(exportChunkSizeField.getText()));
+        } catch (NumberFormatException e) {
+            settings.setExportChunkSize(65536); // fallback to default
+        }
+        
+        String seed = randomSeedField.getText().trim();
+        try {
+            if (!seed.isEmpty()) {
+                settings.setRandomSeed(Long.parseLong(seed));
+            }
+            settings.setUseFixedSeed(!seed.isEmpty());
+        } catch (NumberFormatException e) {
+            settings.setUseFixedSeed(false); // fallback to random seeds
+        }
     }
     
     public void reset(PluginSettings settings) {
@@ -144,6 +262,40 @@ public class GeneralSettingsPanel extends JPanel {
         arrayMaxSizeField.setText(String.valueOf(settings.getArrayMaxSize()));
         enableRandomValuesCheckbox.setSelected(settings.isEnableRandomValues());
         formatOutputCheckbox.setSelected(settings.isFormatOutput());
+        jsonIndentSizeField.setText(String.valueOf(settings.getJsonIndentSize()));
+        preserveInheritanceCheckbox.setSelected(settings.isPreserveInheritance());
         copyToClipboardCheckbox.setSelected(settings.isCopyToClipboard());
+        randomSeedField.setText(formatSeed(settings));
+        memoryMappedOutputCheckbox.setSelected(settings.isMemoryMappedOutput());
+        compressOutputCheckbox.setSelected(settings.isCompressOutput());
+        compressionLevelField.setText(String.valueOf(settings.getCompressionLevel()));
+        exportChunkSizeField.setText(String.valueOf(settings.getExportChunkSize()));
+    }
+    
+    /**
+     * Checks the raw field input; the setters clamp, so out-of-range values are only visible here
+     */
+    public List<String> validateInput() {
+        List<String> errors = new ArrayList<>();
+        checkRange(jsonIndentSizeField, 1, 8, "JSON indent size must be between 1 and 8", errors);
+        checkRange(compressionLevelField, 1, 9, "Compression level must be between 1 and 9", errors);
+        checkRange(exportChunkSizeField, 1000, 10_000_000,
+            "Export chunk size must be between 1,000 and 10,000,000 records", errors);
+        return errors;
+    }
+    
+    private static void checkRange(JBTextField field, int min, int max, String message, List<String> errors) {
+        try {
+            int value = Integer.parseInt(field.getText().trim());
+            if (value < min || value > max) {
+                errors.add(message);
+            }
+        } catch (NumberFormatException e) {
+            errors.add(message);
+        }
+    }
+    
+    private static String formatSeed(PluginSettings settings) {
+        return settings.isUseFixedSeed() ? String.valueOf(settings.getRandomSeed()) : "";
     }
 }
\ No newline at end of file
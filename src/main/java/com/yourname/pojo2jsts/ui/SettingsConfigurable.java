@@ -13,6 +13,7 @@ import org.jetbrains.annotations.Nullable;
 
 import javax.swing.*;
 import java.awt.*;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -110,6 +111,9 @@ public class SettingsConfigurable implements Configurable {
         
         // Apply type mappings
         settings.setTypeMappings(typeMappingPanel.getTypeMappings());
+        
+        // Generators pick up the new settings as one consistent snapshot
+        settings.refreshProfile();
     }
 
     @Override
@@ -123,7 +127,9 @@ public class SettingsConfigurable implements Configurable {
     }
     
     private List<String> validateSettings() {
-        return settings.validateSettings();
+        List<String> errors = new ArrayList<>(generalPanel.validateInput());
+        errors.addAll(settings.validateSettings());
+        return errors;
     }
 
     @Override
@@ -157,7 +157,8 @@ public class TypeMappingDialog extends DialogWrapper {
         sourceTypeField.setToolTipText("Fully qualified Java class name (e.g., java.util.Date)");
         jsonPatternField.setToolTipText("JSON value pattern with templates or fixed values");
         tsTypeField.setToolTipText("Target TypeScript type (string, number, boolean, etc.)");
-        customGeneratorField.setToolTipText("Optional: Custom generator class name for complex logic");
+        customGeneratorField.setToolTipText("Optional: Fully qualified name of a CustomValueGenerator, " +
+            "e.g. one registered through the valueGenerator extension point");
         descriptionArea.setToolTipText("Brief description of this type mapping");
         enabledCheckbox.setToolTipText("Enable or disable this mapping");
     }
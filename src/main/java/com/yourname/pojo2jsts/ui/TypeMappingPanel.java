@@ -104,10 +104,12 @@ public class TypeMappingPanel extends JPanel {
             "{{random_datetime}}    → Random date and time\\n" +
             "{{random_date_only}}   → Random date without time\\n" +
             "{{random_time_only}}   → Random time without date\\n" +
-            "{{random_number}}      → Random decimal number\\n" +
+            "{{random_number}}      → Random decimal number (also {{random_decimal}})\\n" +
             "{{random_integer}}     → Random integer\\n" +
+            "{{random_string}}      → Random word\\n" +
+            "{{random_boolean}}     → true or false\\n" +
             "{{random_uuid}}        → Random UUID string\\n" +
-            "{{current_timestamp}}  → Current timestamp\\n" +
+            "{{current_timestamp}}  → Current time in epoch milliseconds\\n" +
             "\"custom_value\"        → Fixed string value"
         );
         patterns.setBorder(BorderFactory.createEtchedBorder());
@@ -0,0 +1,98 @@
+package com.yourname.pojo2jsts.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for GenerationProfile
+ */
+class GenerationProfileTest {
+
+    @Test
+    void testSnapshotIsolatedFromLaterChanges() {
+        PluginSettings settings = new PluginSettings();
+        settings.setMaxRecursionDepth(4);
+        TypeMapping money = new TypeMapping("com.acme.Money", "{{random_decimal}}", "number");
+        settings.setTypeMappings(new ArrayList<>(List.of(money)));
+
+        GenerationProfile profile = GenerationProfile.compile(settings);
+        settings.setMaxRecursionDepth(9);
+        money.setTsType("string");
+        settings.getDateConfig().setFormat("dd/MM/yyyy");
+
+        assertEquals(4, profile.getMaxRecursionDepth());
+        assertEquals("number", profile.findTsType("com.acme.Money"));
+        assertEquals("2024-01-31 00:00:00",
+            profile.getDateFormatter().format(java.time.LocalDateTime.of(2024, 1, 31, 0, 0)));
+    }
+
+    @Test
+    void testSettingsReuseProfileUntilPublished() {
+        PluginSettings settings = new PluginSettings();
+        GenerationProfile first = settings.getProfile();
+
+        assertSame(first, settings.getProfile());
+
+        // Setters alone never publish, so a half-applied change is not visible to generations
+        settings.setArrayMaxSize(7);
+        settings.getDateConfig().setPastDays(30);
+        assertSame(first, settings.getProfile());
+
+        GenerationProfile second = settings.refreshProfile();
+        assertSame(second, settings.getProfile());
+        assertTrue(second.getVersion() > first.getVersion());
+        assertEquals(7, second.getArrayMaxSize());
+        assertEquals(30, second.getPastDays());
+    }
+
+    @Test
+    void testResetPublishesProfile() {
+        PluginSettings settings = new PluginSettings();
+        settings.setArrayMaxSize(9);
+        assertEquals(9, settings.refreshProfile().getArrayMaxSize());
+
+        settings.resetToDefaults();
+        assertEquals(3, settings.getProfile().getArrayMaxSize());
+    }
+
+    @Test
+    void testIndentFollowsFormatOutput() {
+        PluginSettings settings = new PluginSettings();
+        settings.setJsonIndentSize(4);
+        assertEquals(4, settings.refreshProfile().getJsonIndentSize());
+
+        settings.setFormatOutput(false);
+        assertEquals(0, settings.refreshProfile().getJsonIndentSize());
+    }
+
+    @Test
+    void testInvalidDateSettingsFallBack() {
+        PluginSettings settings = new PluginSettings();
+        settings.getDateConfig().setTimeZone("Not/AZone");
+
+        GenerationProfile profile = GenerationProfile.compile(settings);
+
+        assertNotNull(profile.getDateFormatter());
+        assertEquals(ZoneOffset.UTC, profile.getDateFormatter().getZone());
+    }
+
+    @Test
+    void testTypeMappingTakesPrecedenceOverPackageMapping() {
+        PluginSettings settings = new PluginSettings();
+        settings.setTypeMappings(new ArrayList<>(List.of(new TypeMapping("com.acme.Money", "0", "number"))));
+        settings.setPackageMappings(new ArrayList<>(List.of(new PackageMapping("com.acme.*", "string", "string"))));
+
+        GenerationProfile profile = settings.refreshProfile();
+
+        assertEquals("number", profile.findTsType("com.acme.Money"));
+        assertEquals("string", profile.findTsType("com.acme.Account"));
+        assertEquals("string", profile.findJsonType("com.acme.Account"));
+        assertNull(profile.findTsType("org.other.Account"));
+        assertNull(profile.findMappedTsType("com.acme.Account"));
+    }
+}
@@ -0,0 +1,63 @@
+package com.yourname.pojo2jsts.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for JsonValueTemplate
+ */
+class JsonValueTemplateTest {
+
+    @Test
+    void testQuotedPlaceholder() {
+        List<JsonValueTemplate.Segment> segments = JsonValueTemplate.parse("\"{{random_date}}\"").getSegments();
+
+        assertEquals(3, segments.size());
+        assertEquals("\"", segments.get(0).getLiteral());
+        assertEquals(JsonValueTemplate.Placeholder.RANDOM_DATE, segments.get(1).getPlaceholder());
+        assertTrue(segments.get(1).isQuoted());
+        assertEquals("\"", segments.get(2).getLiteral());
+    }
+
+    @Test
+    void testBarePlaceholder() {
+        JsonValueTemplate template = JsonValueTemplate.parse("{{random_decimal}}");
+
+        assertEquals(1, template.getSegments().size());
+        assertEquals(JsonValueTemplate.Placeholder.RANDOM_DECIMAL, template.getSegments().get(0).getPlaceholder());
+        assertFalse(template.getSegments().get(0).isQuoted());
+    }
+
+    @Test
+    void testMixedPattern() {
+        List<JsonValueTemplate.Segment> segments =
+            JsonValueTemplate.parse("{\"amount\": {{ random_decimal }}, \"ref\": \"INV-{{random_integer}}\"}").getSegments();
+
+        assertEquals(5, segments.size());
+        assertEquals("{\"amount\": ", segments.get(0).getLiteral());
+        assertFalse(segments.get(1).isQuoted());
+        assertEquals(", \"ref\": \"INV-", segments.get(2).getLiteral());
+        assertEquals(JsonValueTemplate.Placeholder.RANDOM_INTEGER, segments.get(3).getPlaceholder());
+        assertTrue(segments.get(3).isQuoted());
+        assertEquals("\"}", segments.get(4).getLiteral());
+    }
+
+    @Test
+    void testEscapedQuoteKeepsStringOpen() {
+        List<JsonValueTemplate.Segment> segments = JsonValueTemplate.parse("\"a\\\"{{random_uuid}}\"").getSegments();
+
+        assertTrue(segments.get(1).isQuoted());
+    }
+
+    @Test
+    void testUnknownAndUnterminatedPlaceholdersStayLiteral() {
+        JsonValueTemplate template = JsonValueTemplate.parse("\"{{nope}} {{random_uuid\"");
+
+        assertEquals(1, template.getSegments().size());
+        assertTrue(template.getSegments().get(0).isLiteral());
+        assertEquals("\"{{nope}} {{random_uuid\"", template.getSegments().get(0).getLiteral());
+    }
+}
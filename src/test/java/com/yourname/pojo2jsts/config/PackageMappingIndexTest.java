@@ -0,0 +1,114 @@
+package com.yourname.pojo2jsts.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for PackageMappingIndex
+ */
+class PackageMappingIndexTest {
+
+    private static PackageMapping mapping(String pattern, boolean recursive) {
+        PackageMapping mapping = new PackageMapping(pattern, pattern, pattern);
+        mapping.setRecursive(recursive);
+        return mapping;
+    }
+
+    @Test
+    void testRecursiveWildcard() {
+        PackageMappingIndex index = PackageMappingIndex.compile(List.of(mapping("com.example.*", true)));
+
+        assertNotNull(index.find("com.example.User"));
+        assertNotNull(index.find("com.example.dto.deep.UserDTO"));
+        assertNull(index.find("com.exampl.User"));
+        assertNull(index.find("com.other.User"));
+        assertNull(index.find(null));
+    }
+
+    @Test
+    void testNonRecursiveWildcardAndExactPackage() {
+        PackageMappingIndex index = PackageMappingIndex.compile(Arrays.asList(
+            mapping("com.example.*", false),
+            mapping("org.sdk.model", true)
+        ));
+
+        assertEquals("com.example.*", index.find("com.example.User").getPackagePattern());
+        assertNull(index.find("com.example.dto.UserDTO"));
+        assertEquals("org.sdk.model", index.find("org.sdk.model.Account").getPackagePattern());
+        assertNull(index.find("org.sdk.model.nested.Account"));
+        assertNull(index.find("org.sdk.Account"));
+    }
+
+    @Test
+    void testDeclarationOrderWins() {
+        PackageMappingIndex index = PackageMappingIndex.compile(Arrays.asList(
+            mapping("com.example.dto.*", true),
+            mapping("com.example.*", true),
+            mapping("com.example.dto", true)
+        ));
+
+        assertEquals("com.example.dto.*", index.find("com.example.dto.UserDTO").getPackagePattern());
+        assertEquals("com.example.*", index.find("com.example.model.User").getPackagePattern());
+
+        index = PackageMappingIndex.compile(Arrays.asList(
+            mapping("com.*", true),
+            mapping("com.example.dto.*", true)
+        ));
+        assertEquals("com.*", index.find("com.example.dto.UserDTO").getPackagePattern());
+    }
+
+    @Test
+    void testDisabledMappingsAreSkipped() {
+        PackageMapping disabled = mapping("com.example.*", true);
+        disabled.setEnabled(false);
+
+        PackageMappingIndex index = PackageMappingIndex.compile(Arrays.asList(disabled, mapping("com.*", true)));
+
+        assertEquals("com.*", index.find("com.example.User").getPackagePattern());
+    }
+
+    @Test
+    void testMatchesLinearScan() {
+        List<PackageMapping> mappings = Arrays.asList(
+            mapping("com.exam*", true),
+            mapping("com.example.api.*", false),
+            mapping("com.example", true),
+            mapping("*", false),
+            mapping("org.*", true),
+            mapping("org.sdk.v2.*", true),
+            mapping("net.vendor.*", false)
+        );
+        PackageMappingIndex index = PackageMappingIndex.compile(mappings);
+
+        List<String> classNames = new ArrayList<>(Arrays.asList(
+            "Standalone", "com.example.User", "com.example.api.Request", "com.example.api.v1.Request",
+            "com.exam.Thing", "com.other.Thing", "org.sdk.v2.Client", "org.Root",
+            "net.vendor.Type", "net.vendor.sub.Type", "net.Other"
+        ));
+        for (String className : classNames) {
+            PackageMapping expected = mappings.stream()
+                .filter(m -> m.matches(className))
+                .findFirst()
+                .orElse(null);
+            assertSame(expected, index.find(className), className);
+        }
+    }
+
+    @Test
+    void testSettingsUseRecompiledIndex() {
+        PluginSettings settings = new PluginSettings();
+        settings.setPackageMappings(new ArrayList<>(List.of(mapping("com.example.*", true))));
+        assertTrue(settings.findPackageMapping("com.example.User").isPresent());
+
+        settings.addPackageMapping(mapping("org.*", true));
+        assertTrue(settings.findPackageMapping("org.sdk.Client").isPresent());
+
+        settings.setPackageMappings(new ArrayList<>());
+        assertFalse(settings.findPackageMapping("com.example.User").isPresent());
+    }
+}
@@ -217,4 +217,81 @@ class PluginSettingsTest {
         assertEquals("com.example.*", settings1.getPackageMappings().get(0).getPackagePattern());
         assertEquals("com.test.*", settings2.getPackageMappings().get(0).getPackagePattern());
     }
-}
\ No newline at end of file
+    
+    @Test
+    void testJsonIndentSize() {
+        assertEquals(2, settings.getJsonIndentSize());
+        assertEquals(2, settings.getEffectiveJsonIndentSize());
+        
+        settings.setJsonIndentSize(4);
+        assertEquals(4, settings.getEffectiveJsonIndentSize());
+        
+        // Out-of-range values are clamped
+        settings.setJsonIndentSize(0);
+        assertEquals(1, settings.getJsonIndentSize());
+        settings.setJsonIndentSize(100);
+        assertEquals(8, settings.getJsonIndentSize());
+        
+        // Compact output when formatting is disabled
+        settings.setFormatOutput(false);
+        assertEquals(0, settings.getEffectiveJsonIndentSize());
+    }
+    
+    @Test
+    void testPreserveInheritance() {
+        assertFalse(settings.isPreserveInheritance());
+        
+        settings.setPreserveInheritance(true);
+        assertTrue(settings.isPreserveInheritance());
+        
+        settings.resetToDefaults();
+        assertFalse(settings.isPreserveInheritance());
+    }
+    
+    @Test
+    void testFixedSeed() {
+        assertFalse(settings.isUseFixedSeed());
+        assertFalse(settings.getProfile().isFixedSeed());
+        
+        settings.setRandomSeed(1234L);
+        settings.setUseFixedSeed(true);
+        settings.refreshProfile();
+        assertTrue(settings.getProfile().isFixedSeed());
+        assertEquals(1234L, settings.getProfile().getRandomSeed());
+        
+        settings.resetToDefaults();
+        assertFalse(settings.isUseFixedSeed());
+        assertEquals(0L, settings.getRandomSeed());
+    }
+    
+    @Test
+    void testMemoryMappedOutput() {
+        assertFalse(settings.getProfile().isMemoryMappedOutput());
+        
+        settings.setMemoryMappedOutput(true);
+        settings.refreshProfile();
+        assertTrue(settings.getProfile().isMemoryMappedOutput());
+        
+        settings.resetToDefaults();
+        assertFalse(settings.isMemoryMappedOutput());
+    }
+    
+    @Test
+    void testCompressionSettings() {
+        assertFalse(settings.getProfile().isCompressOutput());
+        assertEquals(6, settings.getProfile().getCompressionLevel());
+        assertEquals(65536, settings.getProfile().getExportChunkSize());
+        
+        settings.setCompressOutput(true);
+        settings.setCompressionLevel(42);
+        settings.setExportChunkSize(10);
+        settings.refreshProfile();
+        assertTrue(settings.getProfile().isCompressOutput());
+        assertEquals(9, settings.getProfile().getCompressionLevel());
+        assertEquals(1000, settings.getProfile().getExportChunkSize());
+        
+        settings.resetToDefaults();
+        assertFalse(settings.isCompressOutput());
+        assertEquals(6, settings.getCompressionLevel());
+    }
+}
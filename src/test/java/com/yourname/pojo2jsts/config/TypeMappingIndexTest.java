@@ -0,0 +1,101 @@
+package com.yourname.pojo2jsts.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for TypeMappingIndex
+ */
+class TypeMappingIndexTest {
+
+    private static TypeMapping mapping(String sourceType) {
+        return new TypeMapping(sourceType, "\"{{random_uuid}}\"", "string");
+    }
+
+    @Test
+    void testQualifiedSourceType() {
+        TypeMappingIndex index = TypeMappingIndex.compile(List.of(mapping("java.util.Date")));
+
+        assertNotNull(index.find("java.util.Date"));
+        assertNotNull(index.find("Date"));
+        assertNotNull(index.find("util.Date"));
+        assertNull(index.find("java.sql.Date"));
+        assertNull(index.find("LocalDate"));
+        assertNull(index.find(null));
+    }
+
+    @Test
+    void testShortSourceType() {
+        TypeMappingIndex index = TypeMappingIndex.compile(List.of(mapping("Money")));
+
+        assertNotNull(index.find("Money"));
+        assertNotNull(index.find("com.acme.finance.Money"));
+        assertNull(index.find("com.acme.finance.MoneyAmount"));
+    }
+
+    @Test
+    void testDeclarationOrderWins() {
+        TypeMapping shortName = mapping("Date");
+        TypeMapping qualified = mapping("java.util.Date");
+
+        assertSame(shortName, TypeMappingIndex.compile(Arrays.asList(shortName, qualified)).find("java.util.Date"));
+        assertSame(qualified, TypeMappingIndex.compile(Arrays.asList(qualified, shortName)).find("java.util.Date"));
+        assertSame(qualified, TypeMappingIndex.compile(Arrays.asList(qualified, shortName)).find("Date"));
+    }
+
+    @Test
+    void testRepeatedLookupsReturnSameResult() {
+        TypeMapping id = mapping("com.acme.CustomerId");
+        TypeMappingIndex index = TypeMappingIndex.compile(List.of(id));
+
+        assertSame(id, index.find("CustomerId"));
+        assertSame(id, index.find("CustomerId"));
+        assertNull(index.find("OrderId"));
+        assertNull(index.find("OrderId"));
+    }
+
+    @Test
+    void testMatchesLinearScan() {
+        TypeMapping disabled = mapping("java.time.Instant");
+        disabled.setEnabled(false);
+        List<TypeMapping> mappings = Arrays.asList(
+            disabled,
+            mapping("Instant"),
+            mapping("java.math.BigDecimal"),
+            mapping("time.LocalDate"),
+            mapping("com.acme.Money"),
+            mapping("Money")
+        );
+        TypeMappingIndex index = TypeMappingIndex.compile(mappings);
+
+        List<String> typeNames = new ArrayList<>(Arrays.asList(
+            "java.time.Instant", "Instant", "BigDecimal", "math.BigDecimal", "java.math.BigDecimal",
+            "java.time.LocalDate", "LocalDate", "time.LocalDate", "com.acme.Money", "org.other.Money",
+            "Money", "acme.Money", "java.lang.String"
+        ));
+        for (String typeName : typeNames) {
+            TypeMapping expected = mappings.stream()
+                .filter(m -> m.matches(typeName))
+                .findFirst()
+                .orElse(null);
+            assertSame(expected, index.find(typeName), typeName);
+        }
+    }
+
+    @Test
+    void testSettingsUseRecompiledIndex() {
+        PluginSettings settings = new PluginSettings();
+        assertTrue(settings.findTypeMapping("java.util.UUID").isPresent());
+
+        settings.setTypeMappings(new ArrayList<>());
+        assertFalse(settings.findTypeMapping("java.util.UUID").isPresent());
+
+        settings.addTypeMapping(mapping("UUID"));
+        assertTrue(settings.findTypeMapping("java.util.UUID").isPresent());
+    }
+}
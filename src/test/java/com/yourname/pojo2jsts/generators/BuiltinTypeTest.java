@@ -0,0 +1,41 @@
+package com.yourname.pojo2jsts.generators;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the BuiltinType dispatch table
+ */
+class BuiltinTypeTest {
+
+    @Test
+    void testQualifiedNameLookup() {
+        assertEquals(BuiltinType.STRING, BuiltinType.of("java.lang.String"));
+        assertEquals(BuiltinType.INT, BuiltinType.of("java.lang.Integer"));
+        assertEquals(BuiltinType.BIG_DECIMAL, BuiltinType.of("java.math.BigDecimal"));
+        assertEquals(BuiltinType.LOCAL_DATE_TIME, BuiltinType.of("java.time.LocalDateTime"));
+    }
+
+    @Test
+    void testSimpleAndPrimitiveNameLookup() {
+        assertEquals(BuiltinType.STRING, BuiltinType.of("String"));
+        assertEquals(BuiltinType.INT, BuiltinType.of("int"));
+        assertEquals(BuiltinType.BOOLEAN, BuiltinType.of("boolean"));
+        assertEquals(BuiltinType.UUID, BuiltinType.of("UUID"));
+    }
+
+    @Test
+    void testUnknownTypes() {
+        assertNull(BuiltinType.of("java.util.List<java.lang.String>"));
+        assertNull(BuiltinType.of("com.yourname.pojo2jsts.test.User"));
+        assertNull(BuiltinType.of((String) null));
+    }
+
+    @Test
+    void testTypeScriptTypes() {
+        assertEquals("string", BuiltinType.CHAR.getTsType());
+        assertEquals("number", BuiltinType.BIG_INTEGER.getTsType());
+        assertEquals("boolean", BuiltinType.BOOLEAN.getTsType());
+        assertEquals("string", BuiltinType.INSTANT.getTsType());
+    }
+}
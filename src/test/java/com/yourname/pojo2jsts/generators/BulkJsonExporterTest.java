@@ -0,0 +1,162 @@
+package com.yourname.pojo2jsts.generators;
+
+import com.yourname.pojo2jsts.config.GenerationProfile;
+import com.yourname.pojo2jsts.config.PluginSettings;
+import com.yourname.pojo2jsts.model.ClassModel;
+import com.yourname.pojo2jsts.model.FieldModel;
+import com.yourname.pojo2jsts.model.GenerationProgress;
+import com.yourname.pojo2jsts.model.TypeRef;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for NDJSON bulk export
+ */
+class BulkJsonExporterTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2024-03-01T12:00:00Z"), ZoneOffset.UTC);
+
+    @TempDir
+    Path tempDir;
+
+    private ClassModel order;
+    private PluginSettings settings;
+    private GenerationProfile profile;
+
+    @BeforeEach
+    void setUp() {
+        ClassModel line = new ClassModel("test.OrderLine", "OrderLine", false, false);
+        line.setDeclaredFields(List.of(
+            new FieldModel("sku", TypeRef.builtin(BuiltinType.STRING), false),
+            new FieldModel("quantity", TypeRef.builtin(BuiltinType.INT), false)
+        ));
+        order = new ClassModel("test.Order", "Order", false, false);
+        order.setDeclaredFields(List.of(
+            new FieldModel("id", TypeRef.builtin(BuiltinType.UUID), false),
+            new FieldModel("createdAt", TypeRef.builtin(BuiltinType.INSTANT), false),
+            new FieldModel("lines", TypeRef.arrayOf(TypeRef.object(line)), false),
+            new FieldModel("parent", TypeRef.object(order), false)
+        ));
+
+        settings = new PluginSettings();
+        settings.setUseFixedSeed(true);
+        settings.setRandomSeed(42L);
+        profile = GenerationProfile.compile(settings);
+    }
+
+    @Test
+    void testWritesOneCompactRecordPerLine() throws Exception {
+        Path target = tempDir.resolve("orders.ndjson");
+
+        BulkJsonExporter.Stats stats = new BulkJsonExporter(profile, CLOCK)
+            .export(order, 10_000, target, GenerationProgress.NONE);
+
+        List<String> lines = Files.readAllLines(target, StandardCharsets.UTF_8);
+        assertEquals(10_000, lines.size());
+        for (String line : lines) {
+            assertTrue(line.startsWith("{\"id\":\"") && line.endsWith("}"), line);
+        }
+        assertEquals(10_000, stats.getRecords());
+        assertEquals(Files.size(target), stats.getBytes());
+        assertTrue(stats.getRecordsPerSecond() > 0);
+        assertTrue(stats.toString().contains("records/s"));
+    }
+
+    @Test
+    void testFixedSeedGivesIdenticalFiles() throws Exception {
+        Path first = tempDir.resolve("first.ndjson");
+        Path second = tempDir.resolve("second.ndjson");
+
+        new BulkJsonExporter(profile, CLOCK).export(order, 5_000, first, GenerationProgress.NONE);
+        new BulkJsonExporter(profile, CLOCK).export(order, 5_000, second, GenerationProgress.NONE);
+
+        assertEquals(-1, Files.mismatch(first, second));
+    }
+
+    @Test
+    void testRecordDependsOnlyOnSeedAndIndex() {
+        JsonGenerator generator = new JsonGenerator(profile, CLOCK);
+        JsonGenerator.Plan plan = generator.compile(order);
+        RandomValueGenerator random = new RandomValueGenerator(42L);
+
+        StringBuilder all = new StringBuilder();
+        generator.writeRecords(plan, all, random, 0, 10, GenerationProgress.NONE);
+        StringBuilder tail = new StringBuilder();
+        generator.writeRecords(plan, tail, random, 7, 3, GenerationProgress.NONE);
+
+        String[] records = all.toString().split("\n");
+        assertEquals(10, records.length);
+        assertEquals(String.join("\n", records[7], records[8], records[9]) + "\n", tail.toString());
+    }
+
+    @Test
+    void testParallelChunksMatchSequentialExport() throws Exception {
+        Path sequential = tempDir.resolve("sequential.ndjson");
+        Path parallel = tempDir.resolve("parallel.ndjson");
+
+        settings.setExportChunkSize(1000);
+        profile = GenerationProfile.compile(settings);
+
+        new BulkJsonExporter(profile, CLOCK, 1).export(order, 10_500, sequential, GenerationProgress.NONE);
+        BulkJsonExporter.Stats stats = new BulkJsonExporter(profile, CLOCK, 4)
+            .export(order, 10_500, parallel, GenerationProgress.NONE);
+
+        assertEquals(-1, Files.mismatch(sequential, parallel));
+        assertEquals(Files.size(parallel), stats.getBytes());
+        try (Stream<Path> files = Files.list(tempDir)) {
+            assertEquals(2, files.count(), "Part files should be removed after assembly");
+        }
+    }
+
+    @Test
+    void testCompressedParallelExportIsMultiMemberGzip() throws Exception {
+        Path plain = tempDir.resolve("plain.ndjson");
+        Path compressed = tempDir.resolve("compressed.ndjson.gz");
+        new BulkJsonExporter(profile, CLOCK, 1).export(order, 10_500, plain, GenerationProgress.NONE);
+
+        settings.setExportChunkSize(1000);
+        settings.setCompressOutput(true);
+        settings.setCompressionLevel(9);
+        BulkJsonExporter.Stats stats = new BulkJsonExporter(GenerationProfile.compile(settings), CLOCK, 4)
+            .export(order, 10_500, compressed, GenerationProgress.NONE);
+
+        // GZIPInputStream reads across member boundaries
+        byte[] expected = Files.readAllBytes(plain);
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(compressed))) {
+            assertArrayEquals(expected, in.readAllBytes());
+        }
+        assertEquals(Files.size(compressed), stats.getBytes());
+        assertTrue(stats.getBytes() < expected.length / 2);
+    }
+
+    @Test
+    void testFailedExportLeavesNoPartialFiles() throws Exception {
+        // A non-empty directory cannot be replaced, so the export fails after writing every record
+        Path target = tempDir.resolve("orders.ndjson");
+        Files.createDirectory(target);
+        Files.writeString(target.resolve("keep.txt"), "existing");
+
+        assertThrows(IOException.class, () -> new BulkJsonExporter(profile, CLOCK, 1)
+            .export(order, 1_000, target, GenerationProgress.NONE));
+
+        assertEquals("existing", Files.readString(target.resolve("keep.txt")));
+        try (Stream<Path> files = Files.list(tempDir)) {
+            assertEquals(1, files.count(), "The part file should be removed when the export fails");
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.yourname.pojo2jsts.generators;
+
+import com.yourname.pojo2jsts.config.GenerationProfile;
+import com.yourname.pojo2jsts.config.PluginSettings;
+import com.yourname.pojo2jsts.config.TypeMapping;
+import com.yourname.pojo2jsts.model.ClassModel;
+import com.yourname.pojo2jsts.model.FieldModel;
+import com.yourname.pojo2jsts.model.TypeRef;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for custom value generator resolution and use
+ */
+class CustomValueGeneratorsTest {
+
+    public static class IbanGenerator implements CustomValueGenerator {
+        static final AtomicInteger INSTANCES = new AtomicInteger();
+
+        public IbanGenerator() {
+            INSTANCES.incrementAndGet();
+        }
+
+        @Override
+        public void writeValue(JsonWriter writer, RandomValueGenerator random) {
+            writer.value("DE89370400440532013000");
+        }
+
+        @Override
+        public String getTsType() {
+            return "Iban";
+        }
+    }
+
+    @Test
+    void testResolveByClassName() {
+        Map<String, CustomValueGenerator> resolved = CustomValueGenerators.resolve(Set.of(
+            IbanGenerator.class.getName(), "com.acme.Missing", String.class.getName()));
+
+        assertEquals(Set.of(IbanGenerator.class.getName()), resolved.keySet());
+        assertTrue(resolved.get(IbanGenerator.class.getName()) instanceof IbanGenerator);
+    }
+
+    @Test
+    void testGeneratorInstantiatedOncePerProfile() {
+        TypeMapping iban = new TypeMapping("test.Iban", "\"{{random_string}}\"", "string");
+        iban.setCustomGenerator(IbanGenerator.class.getName());
+        PluginSettings settings = new PluginSettings();
+        settings.setFormatOutput(false);
+        settings.setTypeMappings(new ArrayList<>(List.of(iban)));
+
+        int before = IbanGenerator.INSTANCES.get();
+        GenerationProfile profile = settings.refreshProfile();
+        assertEquals(before + 1, IbanGenerator.INSTANCES.get());
+
+        ClassModel ibanModel = new ClassModel("test.Iban", "Iban", false, false);
+        ClassModel account = new ClassModel("test.Account", "Account", false, false);
+        account.setDeclaredFields(List.of(
+            new FieldModel("primary", TypeRef.object(ibanModel), false),
+            new FieldModel("others", TypeRef.arrayOf(TypeRef.object(ibanModel)), false)
+        ));
+
+        for (int i = 0; i < 3; i++) {
+            StringBuilder json = new StringBuilder();
+            new JsonGenerator(profile).generate(account, json);
+            assertTrue(json.toString().startsWith("{\"primary\":\"DE89370400440532013000\",\"others\":[\"DE89"));
+        }
+        assertTrue(new TypeScriptGenerator(profile).generate(account).contains("  others: Iban[];"));
+        assertEquals(before + 1, IbanGenerator.INSTANCES.get());
+    }
+
+    @Test
+    void testUnresolvedGeneratorFallsBackToPattern() {
+        TypeMapping iban = new TypeMapping("test.Iban", "\"fixed\"", "string");
+        iban.setCustomGenerator("com.acme.Missing");
+        PluginSettings settings = new PluginSettings();
+        settings.setTypeMappings(new ArrayList<>(List.of(iban)));
+
+        GenerationProfile profile = settings.refreshProfile();
+
+        assertNull(profile.findCustomGenerator("test.Iban"));
+        assertNotNull(profile.findJsonTemplate("test.Iban"));
+        assertEquals("string", profile.findTsType("test.Iban"));
+    }
+}
@@ -0,0 +1,173 @@
+package com.yourname.pojo2jsts.generators;
+
+import com.intellij.openapi.progress.EmptyProgressIndicator;
+import com.intellij.openapi.progress.ProcessCanceledException;
+import com.intellij.openapi.progress.ProgressIndicator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for request coalescing in GenerationService
+ */
+class GenerationServiceTest {
+
+    private ExecutorService executor;
+    private GenerationService service;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(2);
+        // No application here, so no ProgressManager: run the work directly under a plain indicator
+        service = new GenerationService(executor, EmptyProgressIndicator::new, (indicator, work) -> work.get());
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void testIdenticalRequestsShareOneRun() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger runs = new AtomicInteger();
+        Function<ProgressIndicator, String> work = indicator -> {
+            runs.incrementAndGet();
+            await(release);
+            return "{}";
+        };
+
+        GenerationService.PendingGeneration first = service.submit(key(2, 1), work);
+        GenerationService.PendingGeneration second = service.submit(key(2, 1), work);
+        release.countDown();
+
+        assertSame(first, second);
+        assertEquals("{}", service.await(first, new EmptyProgressIndicator()));
+        assertEquals("{}", service.await(second, new EmptyProgressIndicator()));
+        assertEquals(1, runs.get());
+    }
+
+    @Test
+    void testNewerRequestSupersedesStaleOne() {
+        CountDownLatch started = new CountDownLatch(1);
+        GenerationService.PendingGeneration stale = service.submit(key(2, 1), indicator -> {
+            started.countDown();
+            while (true) {
+                indicator.checkCanceled();
+                Thread.onSpinWait();
+            }
+        });
+        await(started);
+
+        GenerationService.PendingGeneration fresh = service.submit(key(4, 1), indicator -> "{ }");
+
+        assertNotSame(stale, fresh);
+        assertThrows(ProcessCanceledException.class, () -> service.await(stale, new EmptyProgressIndicator()));
+        assertEquals("{ }", service.await(fresh, new EmptyProgressIndicator()));
+    }
+
+    @Test
+    void testLastWaiterCancellingStopsTheRun() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch stopped = new CountDownLatch(1);
+        GenerationService.PendingGeneration generation = service.submit(key(2, 1), indicator -> {
+            started.countDown();
+            try {
+                while (true) {
+                    indicator.checkCanceled();
+                    Thread.onSpinWait();
+                }
+            } finally {
+                stopped.countDown();
+            }
+        });
+        await(started);
+
+        EmptyProgressIndicator waiter = new EmptyProgressIndicator();
+        waiter.cancel();
+
+        assertThrows(ProcessCanceledException.class, () -> service.await(generation, waiter));
+        assertTrue(stopped.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testBatchAndSingleRunsDoNotSupersedeEachOther() {
+        CountDownLatch release = new CountDownLatch(1);
+        GenerationService.PendingGeneration single = service.submit(key(2, 1), indicator -> {
+            await(release);
+            return "single";
+        });
+        GenerationService.PendingGeneration batch = service.submit(
+            new GenerationService.RequestKey(null, "test.Order", GenerationService.OutputKind.JSON, true, 2, 1),
+            indicator -> "batch");
+        release.countDown();
+
+        assertNotSame(single, batch);
+        assertEquals("batch", service.await(batch, new EmptyProgressIndicator()));
+        assertEquals("single", service.await(single, new EmptyProgressIndicator()));
+    }
+
+    @Test
+    void testFinishedRunIsNotReused() {
+        GenerationService.PendingGeneration first = service.submit(key(2, 1), indicator -> "a");
+        assertEquals("a", service.await(first, new EmptyProgressIndicator()));
+
+        GenerationService.PendingGeneration second = service.submit(key(2, 1), indicator -> "b");
+
+        assertEquals("b", service.await(second, new EmptyProgressIndicator()));
+    }
+
+    @Test
+    void testGenerateAllConsumesResultsInOrderAndSkipsFailures() {
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            names.add("test.Model" + i);
+        }
+        EmptyProgressIndicator indicator = new EmptyProgressIndicator();
+        List<String> consumed = new ArrayList<>();
+
+        int skipped = service.generateAll(names, name -> service.submit(key(name), progress -> {
+            if (name.endsWith("7")) {
+                throw new IllegalStateException("broken " + name);
+            }
+            return "{\"type\": \"" + name + "\"}";
+        }), indicator, (name, output) -> {
+            assertEquals("{\"type\": \"" + name + "\"}", output);
+            consumed.add(name);
+        });
+
+        List<String> expected = new ArrayList<>(names);
+        expected.removeIf(name -> name.endsWith("7"));
+        assertEquals(4, skipped);
+        assertEquals(expected, consumed);
+        assertEquals(1.0, indicator.getFraction());
+    }
+
+    private static GenerationService.RequestKey key(int indentSize, long modificationCount) {
+        return new GenerationService.RequestKey(null, "test.Order", GenerationService.OutputKind.JSON,
+            indentSize, modificationCount);
+    }
+
+    private static GenerationService.RequestKey key(String qualifiedName) {
+        return new GenerationService.RequestKey(null, qualifiedName, GenerationService.OutputKind.JSON, 2, 1);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
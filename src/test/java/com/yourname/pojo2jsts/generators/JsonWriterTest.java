@@ -0,0 +1,112 @@
+package com.yourname.pojo2jsts.generators;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the streaming JsonWriter
+ */
+class JsonWriterTest {
+
+    private StringBuilder out;
+    private JsonWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        out = new StringBuilder();
+        writer = new JsonWriter(out);
+    }
+
+    @Test
+    void testNestedStructureIsIndentedInline() {
+        writer.beginObject()
+              .name("name").value("Lorem")
+              .name("age").value(25)
+              .name("tags").beginArray().value("a").value("b").endArray()
+              .name("address").beginObject().name("city").value("sit").endObject()
+              .endObject();
+
+        String expected = "{\n" +
+            "  \"name\": \"Lorem\",\n" +
+            "  \"age\": 25,\n" +
+            "  \"tags\": [\n" +
+            "    \"a\",\n" +
+            "    \"b\"\n" +
+            "  ],\n" +
+            "  \"address\": {\n" +
+            "    \"city\": \"sit\"\n" +
+            "  }\n" +
+            "}";
+        assertEquals(expected, out.toString());
+    }
+
+    @Test
+    void testEmptyContainers() {
+        writer.beginObject()
+              .name("list").beginArray().endArray()
+              .name("map").beginObject().endObject()
+              .endObject();
+
+        assertEquals("{\n  \"list\": [],\n  \"map\": {}\n}", out.toString());
+    }
+
+    @Test
+    void testCustomIndentSize() {
+        writer = new JsonWriter(out, 4);
+        writer.beginObject().name("tags").beginArray().value("a").endArray().endObject();
+
+        assertEquals("{\n    \"tags\": [\n        \"a\"\n    ]\n}", out.toString());
+    }
+
+    @Test
+    void testCompactMode() {
+        writer = new JsonWriter(out, 0);
+        writer.beginObject()
+              .name("name").value("Lorem")
+              .name("tags").beginArray().value(1).value(2).endArray()
+              .name("empty").beginObject().endObject()
+              .endObject();
+
+        assertEquals("{\"name\":\"Lorem\",\"tags\":[1,2],\"empty\":{}}", out.toString());
+    }
+
+    @Test
+    void testScalarValues() {
+        writer.beginArray().value(true).value(1.5).nullValue().endArray();
+
+        assertEquals("[\n  true,\n  1.5,\n  null\n]", out.toString());
+    }
+
+    @Test
+    void testStringEscaping() {
+        writer.value("say \"hi\"\\\n\u0001");
+
+        assertEquals("\"say \\\"hi\\\"\\\\\\n\\u0001\"", out.toString());
+    }
+
+    @Test
+    void testUnbalancedCloseFails() {
+        assertThrows(IllegalStateException.class, () -> writer.endObject());
+    }
+
+    @Test
+    void testRawValueIsPlacedLikeAnyOtherValue() {
+        writer.beginArray()
+              .value(1)
+              .beginRawValue().raw("\"id-").rawStringContent("a\"b").raw("\"").endArray();
+
+        assertEquals("[\n  1,\n  \"id-a\\\"b\"\n]", out.toString());
+    }
+
+    @Test
+    void testDateValueIsFormattedAndEscaped() {
+        java.time.format.DateTimeFormatter formatter = java.time.format.DateTimeFormatter
+            .ofPattern("yyyy-MM-dd'\"'HH").withZone(java.time.ZoneOffset.UTC);
+        java.time.Instant moment = java.time.Instant.parse("2024-03-01T12:00:00Z");
+
+        writer.beginArray().value(moment, formatter).value(moment, formatter).endArray();
+
+        assertEquals("[\n  \"2024-03-01\\\"12\",\n  \"2024-03-01\\\"12\"\n]", out.toString());
+    }
+}
@@ -0,0 +1,405 @@
+package com.yourname.pojo2jsts.generators;
+
+import com.yourname.pojo2jsts.config.DateConfig;
+import com.yourname.pojo2jsts.config.GenerationProfile;
+import com.yourname.pojo2jsts.config.PackageMapping;
+import com.yourname.pojo2jsts.config.PluginSettings;
+import com.yourname.pojo2jsts.config.TypeMapping;
+import com.yourname.pojo2jsts.model.ClassModel;
+import com.yourname.pojo2jsts.model.FieldModel;
+import com.yourname.pojo2jsts.model.GenerationProgress;
+import com.yourname.pojo2jsts.model.TypeRef;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests both emitters against a hand-built class model, without PSI
+ */
+class ModelGenerationTest {
+
+    private ClassModel dateGroupStatement;
+    private ClassModel accountStatement;
+
+    @BeforeEach
+    void setUp() {
+        ClassModel status = new ClassModel("test.Status", "Status", true, false);
+        status.setEnumConstants(List.of("ACTIVE", "INACTIVE"));
+
+        accountStatement = new ClassModel("test.AccountStatement", "AccountStatement", false, false);
+        accountStatement.setDeclaredFields(List.of(
+            new FieldModel("id", TypeRef.builtin(BuiltinType.STRING), false),
+            new FieldModel("amount", TypeRef.builtin(BuiltinType.BIG_DECIMAL), false),
+            new FieldModel("status", TypeRef.object(status), false)
+        ));
+
+        dateGroupStatement = new ClassModel("test.DateGroupStatement", "DateGroupStatement", false, false);
+        dateGroupStatement.setDeclaredFields(List.of(
+            new FieldModel("date", TypeRef.builtin(BuiltinType.STRING), false),
+            new FieldModel("statements", TypeRef.arrayOf(TypeRef.object(accountStatement)), false),
+            new FieldModel("totals", TypeRef.mapOf(TypeRef.builtin(BuiltinType.STRING),
+                TypeRef.builtin(BuiltinType.INT)), true),
+            new FieldModel("parent", TypeRef.object(dateGroupStatement), false)
+        ));
+    }
+
+    @Test
+    void testTypeScriptFromModel() {
+        String ts = new TypeScriptGenerator().generate(dateGroupStatement);
+
+        assertTrue(ts.contains("export interface AccountStatement {"));
+        assertTrue(ts.contains("  status: \"ACTIVE\" | \"INACTIVE\";"));
+        assertTrue(ts.contains("  statements: AccountStatement[];"));
+        assertTrue(ts.contains("  totals?: Record<string, number>;"));
+        assertTrue(ts.contains("  parent: DateGroupStatement;"));
+        assertTrue(ts.indexOf("export interface AccountStatement") < ts.indexOf("export interface DateGroupStatement"),
+            "Dependencies should be defined before their usage");
+    }
+
+    @Test
+    void testSharedInterfaceEmittedOnce() {
+        ClassModel ledger = new ClassModel("test.Ledger", "Ledger", false, false);
+        ledger.setDeclaredFields(List.of(
+            new FieldModel("first", TypeRef.object(accountStatement), false),
+            new FieldModel("all", TypeRef.arrayOf(TypeRef.object(accountStatement)), false),
+            new FieldModel("groups", TypeRef.arrayOf(TypeRef.object(dateGroupStatement)), false)
+        ));
+
+        String ts = new TypeScriptGenerator().generate(ledger);
+
+        assertEquals(ts.indexOf("export interface AccountStatement {"),
+            ts.lastIndexOf("export interface AccountStatement {"));
+        assertTrue(ts.endsWith("}"));
+        assertTrue(ts.contains("}\n\nexport interface Ledger {"));
+    }
+
+    @Test
+    void testBundleSharesInterfacesAndSeparatesClashingNames() {
+        ClassModel billingAccount = new ClassModel("billing.Account", "Account", false, false);
+        billingAccount.setDeclaredFields(List.of(
+            new FieldModel("iban", TypeRef.builtin(BuiltinType.STRING), false),
+            new FieldModel("statement", TypeRef.object(accountStatement), false)
+        ));
+        ClassModel userAccount = new ClassModel("users.Account", "Account", false, false);
+        userAccount.setDeclaredFields(List.of(
+            new FieldModel("login", TypeRef.builtin(BuiltinType.STRING), false),
+            new FieldModel("billing", TypeRef.object(billingAccount), false)
+        ));
+        StringBuilder ts = new StringBuilder();
+
+        new TypeScriptGenerator().generateBundle(List.of(billingAccount, userAccount, accountStatement), ts,
+            GenerationProgress.NONE);
+
+        String bundle = ts.toString();
+        assertEquals(bundle.indexOf("export interface AccountStatement {"),
+            bundle.lastIndexOf("export interface AccountStatement {"));
+        assertTrue(bundle.indexOf("export interface AccountStatement {")
+            < bundle.indexOf("export interface billing_Account {"));
+        assertTrue(bundle.contains("export interface users_Account {"));
+        assertTrue(bundle.contains("  billing: billing_Account;"));
+        assertFalse(bundle.contains("export interface Account {"));
+    }
+
+    @Test
+    void testMutualReferencesOrderedDeterministically() {
+        ClassModel customer = new ClassModel("test.Customer", "Customer", false, false);
+        ClassModel order = new ClassModel("test.Order", "Order", false, false);
+        customer.setDeclaredFields(List.of(
+            new FieldModel("orders", TypeRef.arrayOf(TypeRef.object(order)), false),
+            new FieldModel("latest", TypeRef.object(accountStatement), false)
+        ));
+        order.setDeclaredFields(List.of(
+            new FieldModel("customer", TypeRef.object(customer), false)
+        ));
+
+        String ts = new TypeScriptGenerator().generate(customer);
+
+        assertEquals("export interface AccountStatement {\n"
+            + "  id: string;\n"
+            + "  amount: number;\n"
+            + "  status: \"ACTIVE\" | \"INACTIVE\";\n"
+            + "}\n\n"
+            + "export interface Order {\n"
+            + "  customer: Customer;\n"
+            + "}\n\n"
+            + "export interface Customer {\n"
+            + "  orders: Order[];\n"
+            + "  latest: AccountStatement;\n"
+            + "}", ts);
+        assertEquals(ts, new TypeScriptGenerator().generate(customer));
+    }
+
+    @Test
+    void testDeepChainIsNotTruncated() {
+        ClassModel leaf = new ClassModel("test.Level20", "Level20", false, false);
+        leaf.setDeclaredFields(List.of(new FieldModel("value", TypeRef.builtin(BuiltinType.INT), false)));
+        ClassModel current = leaf;
+        for (int level = 19; level >= 0; level--) {
+            ClassModel parent = new ClassModel("test.Level" + level, "Level" + level, false, false);
+            parent.setDeclaredFields(List.of(new FieldModel("child", TypeRef.object(current), false)));
+            current = parent;
+        }
+
+        String ts = new TypeScriptGenerator().generate(current);
+
+        assertTrue(ts.startsWith("export interface Level20 {"));
+        assertTrue(ts.contains("export interface Level1 {\n  child: Level2;\n}"));
+        assertTrue(ts.endsWith("export interface Level0 {\n  child: Level1;\n}"));
+    }
+
+    @Test
+    void testInheritancePreservedWithExtends() {
+        ClassModel baseEntity = new ClassModel("test.BaseEntity", "BaseEntity", false, false);
+        baseEntity.setDeclaredFields(List.of(new FieldModel("id", TypeRef.builtin(BuiltinType.LONG), false)));
+        ClassModel invoice = new ClassModel("test.Invoice", "Invoice", false, false);
+        invoice.setDeclaredFields(List.of(new FieldModel("total", TypeRef.builtin(BuiltinType.BIG_DECIMAL), false)));
+        invoice.setSuperClass(baseEntity);
+        ClassModel refund = new ClassModel("test.Refund", "Refund", false, false);
+        refund.setDeclaredFields(List.of(new FieldModel("invoice", TypeRef.object(invoice), false)));
+        refund.setSuperClass(baseEntity);
+
+        String flattened = new TypeScriptGenerator().generate(refund);
+        String preserved = new TypeScriptGenerator(true).generate(refund);
+
+        assertEquals("export interface Invoice {\n  total: number;\n  id: number;\n}\n\n"
+            + "export interface Refund {\n  invoice: Invoice;\n  id: number;\n}", flattened);
+        assertEquals("export interface BaseEntity {\n  id: number;\n}\n\n"
+            + "export interface Invoice extends BaseEntity {\n  total: number;\n}\n\n"
+            + "export interface Refund extends BaseEntity {\n  invoice: Invoice;\n}", preserved);
+    }
+
+    @Test
+    void testSystemBaseIsFlattenedWhenPreservingInheritance() {
+        ClassModel frameworkBase = new ClassModel("org.springframework.data.jpa.domain.AbstractPersistable",
+            "AbstractPersistable", false, true);
+        frameworkBase.setDeclaredFields(List.of(new FieldModel("id", TypeRef.builtin(BuiltinType.LONG), false)));
+        ClassModel customer = new ClassModel("test.Customer", "Customer", false, false);
+        customer.setDeclaredFields(List.of(new FieldModel("name", TypeRef.builtin(BuiltinType.STRING), false)));
+        customer.setSuperClass(frameworkBase);
+
+        String ts = new TypeScriptGenerator(true).generate(customer);
+
+        assertEquals("export interface Customer {\n  name: string;\n  id: number;\n}", ts);
+    }
+
+    @Test
+    void testJsonFromModel() {
+        StringBuilder json = new StringBuilder();
+        new JsonGenerator().generate(dateGroupStatement, json);
+        String result = json.toString();
+
+        assertTrue(result.startsWith("{\n  \"date\": \""));
+        assertTrue(result.contains("\"statements\": ["));
+        assertTrue(result.contains("\"status\": \"ACTIVE\"") || result.contains("\"status\": \"INACTIVE\""));
+        // Direct self reference is cut with null
+        assertTrue(result.contains("\"parent\": null"));
+    }
+
+    @Test
+    void testRawMapEmittedEmpty() {
+        ClassModel settingsHolder = new ClassModel("test.SettingsHolder", "SettingsHolder", false, false);
+        settingsHolder.setDeclaredFields(List.of(
+            new FieldModel("raw", TypeRef.mapOf(TypeRef.UNKNOWN, TypeRef.UNKNOWN), false)
+        ));
+
+        StringBuilder json = new StringBuilder();
+        new JsonGenerator(0).generate(settingsHolder, json);
+        String ts = new TypeScriptGenerator().generate(settingsHolder);
+
+        assertEquals("{\"raw\":{}}", json.toString());
+        assertTrue(ts.contains("  raw: { [key: string]: any };"));
+    }
+
+    @Test
+    void testSameModelServesBothEmitters() {
+        StringBuilder json = new StringBuilder();
+        new JsonGenerator(0).generate(accountStatement, json);
+        String ts = new TypeScriptGenerator().generate(accountStatement);
+
+        assertTrue(json.toString().startsWith("{\"id\":\""));
+        assertTrue(ts.contains("export interface AccountStatement {"));
+    }
+
+    @Test
+    void testProfileLimitsAndMappingsApplied() {
+        PluginSettings settings = new PluginSettings();
+        settings.setMaxRecursionDepth(1);
+        settings.setFormatOutput(false);
+        settings.getDateConfig().setFormat("dd/MM/yyyy");
+        settings.setPackageMappings(new ArrayList<>(List.of(new PackageMapping("test.*", "string", "Ref"))));
+        GenerationProfile profile = settings.refreshProfile();
+
+        ClassModel audit = new ClassModel("audit.Entry", "Entry", false, false);
+        audit.setDeclaredFields(List.of(
+            new FieldModel("at", TypeRef.builtin(BuiltinType.LOCAL_DATE_TIME), false),
+            new FieldModel("statement", TypeRef.object(accountStatement), false),
+            new FieldModel("self", TypeRef.object(audit), false)
+        ));
+
+        StringBuilder json = new StringBuilder();
+        new JsonGenerator(profile).generate(audit, json);
+        String ts = new TypeScriptGenerator(profile).generate(audit);
+
+        assertTrue(json.toString().matches("\\{\"at\":\"\\d{2}/\\d{2}/\\d{4}\",\"statement\":\"[^\"]+\",\"self\":null}"),
+            json.toString());
+        assertEquals("export interface Entry {\n  at: string;\n  statement: Ref;\n  self: Entry;\n}", ts);
+    }
+
+    @Test
+    void testTypeMappingPatternsRendered() {
+        PluginSettings settings = new PluginSettings();
+        settings.setFormatOutput(false);
+        settings.getDateConfig().setFormat("yyyy/MM/dd");
+        settings.addTypeMapping(new TypeMapping("test.Money", "{\"amount\": {{random_decimal}}, \"currency\": \"EUR\"}", "Money"));
+        GenerationProfile profile = settings.refreshProfile();
+
+        ClassModel money = new ClassModel("test.Money", "Money", false, false);
+        ClassModel invoice = new ClassModel("test.Invoice", "Invoice", false, false);
+        invoice.setDeclaredFields(List.of(
+            new FieldModel("issued", TypeRef.builtin(BuiltinType.DATE), false),
+            new FieldModel("id", TypeRef.builtin(BuiltinType.UUID), false),
+            new FieldModel("total", TypeRef.object(money), false)
+        ));
+
+        StringBuilder json = new StringBuilder();
+        new JsonGenerator(profile).generate(invoice, json);
+
+        assertTrue(json.toString().matches("\\{\"issued\":\"\\d{4}/\\d{2}/\\d{2}\","
+            + "\"id\":\"[0-9a-f-]{36}\","
+            + "\"total\":\\{\"amount\": [0-9.]+, \"currency\": \"EUR\"}}"), json.toString());
+        assertTrue(new TypeScriptGenerator(profile).generate(invoice).contains("  total: Money;"));
+    }
+
+    @Test
+    void testUuidPlaceholderQuotedAndUnquoted() {
+        PluginSettings settings = new PluginSettings();
+        settings.setFormatOutput(false);
+        settings.addTypeMapping(new TypeMapping("test.Ref", "{\"ref\": \"ID-{{random_uuid}}\", \"raw\": {{random_uuid}}}", "Ref"));
+        GenerationProfile profile = settings.refreshProfile();
+
+        ClassModel ref = new ClassModel("test.Ref", "Ref", false, false);
+        ClassModel order = new ClassModel("test.Order", "Order", false, false);
+        order.setDeclaredFields(List.of(new FieldModel("ref", TypeRef.object(ref), false)));
+
+        StringBuilder json = new StringBuilder();
+        new JsonGenerator(profile).generate(order, json);
+
+        assertTrue(json.toString().matches("\\{\"ref\":\\{\"ref\": \"ID-[0-9a-f-]{36}\", \"raw\": [0-9a-f-]{36}}}"),
+            json.toString());
+    }
+
+    @Test
+    void testSystemClassFieldsAreExpanded() {
+        PluginSettings settings = new PluginSettings();
+        settings.setFormatOutput(false);
+        GenerationProfile profile = settings.refreshProfile();
+
+        ClassModel point = new ClassModel("java.awt.Point", "Point", false, true);
+        point.setDeclaredFields(List.of(
+            new FieldModel("x", TypeRef.builtin(BuiltinType.INT), false),
+            new FieldModel("y", TypeRef.builtin(BuiltinType.INT), false)
+        ));
+        ClassModel marker = new ClassModel("test.Marker", "Marker", false, false);
+        marker.setDeclaredFields(List.of(new FieldModel("position", TypeRef.object(point), false)));
+
+        StringBuilder json = new StringBuilder();
+        new JsonGenerator(profile).generate(marker, json);
+
+        assertTrue(json.toString().matches("\\{\"position\":\\{\"x\":-?\\d+,\"y\":-?\\d+}}"), json.toString());
+        assertFalse(new TypeScriptGenerator(profile).generate(marker).contains("interface Point"));
+    }
+
+    @Test
+    void testFixedSeedGivesIdenticalOutput() {
+        PluginSettings settings = new PluginSettings();
+        settings.setRandomSeed(20240131L);
+        settings.setUseFixedSeed(true);
+        JsonGenerator generator = new JsonGenerator(settings.refreshProfile());
+
+        StringBuilder first = new StringBuilder();
+        generator.generate(dateGroupStatement, first);
+        StringBuilder second = new StringBuilder();
+        new JsonGenerator(settings.getProfile()).generate(dateGroupStatement, second);
+        StringBuilder explicit = new StringBuilder();
+        generator.generate(dateGroupStatement, explicit, new RandomValueGenerator(20240131L), GenerationProgress.NONE);
+
+        assertEquals(first.toString(), second.toString());
+        assertEquals(first.toString(), explicit.toString());
+    }
+
+    @Test
+    void testDatesFollowDateConfigAndRunClock() {
+        PluginSettings settings = new PluginSettings();
+        settings.setFormatOutput(false);
+        settings.setTypeMappings(new ArrayList<>());
+        DateConfig dateConfig = new DateConfig("yyyy-MM-dd'T'HH:mm:ssXXX", 2, 0);
+        dateConfig.setTimeZone("Asia/Tokyo");
+        settings.setDateConfig(dateConfig);
+        Clock clock = Clock.fixed(Instant.parse("2024-03-01T12:00:00Z"), ZoneOffset.UTC);
+
+        ClassModel event = new ClassModel("test.Event", "Event", false, false);
+        event.setDeclaredFields(List.of(
+            new FieldModel("at", TypeRef.builtin(BuiltinType.INSTANT), false),
+            new FieldModel("day", TypeRef.builtin(BuiltinType.LOCAL_DATE), false),
+            new FieldModel("time", TypeRef.builtin(BuiltinType.LOCAL_TIME), false)
+        ));
+
+        for (int i = 0; i < 20; i++) {
+            StringBuilder json = new StringBuilder();
+            new JsonGenerator(settings.refreshProfile(), clock).generate(event, json);
+            String at = json.substring(7, 32);
+            assertTrue(at.endsWith("+09:00"), json.toString());
+            Instant moment = OffsetDateTime.parse(at).toInstant();
+            assertFalse(moment.isAfter(clock.instant()));
+            assertFalse(moment.isBefore(clock.instant().minus(Duration.ofDays(2))));
+            assertTrue(json.toString().matches(".*\"day\":\"2024-02-2[89]\",\"time\":\"\\d{2}:\\d{2}:\\d{2}\"}|"
+                + ".*\"day\":\"2024-03-01\",\"time\":\"\\d{2}:\\d{2}:\\d{2}\"}"), json.toString());
+        }
+
+        dateConfig.setUseCurrentTime(true);
+        StringBuilder json = new StringBuilder();
+        new JsonGenerator(settings.refreshProfile(), clock).generate(event, json);
+        assertEquals("{\"at\":\"2024-03-01T21:00:00+09:00\",\"day\":\"2024-03-01\",\"time\":\"21:00:00\"}",
+            json.toString());
+    }
+
+    @Test
+    void testSharedGeneratorsServeConcurrentCalls() throws Exception {
+        JsonGenerator jsonGenerator = new JsonGenerator(0);
+        TypeScriptGenerator tsGenerator = new TypeScriptGenerator();
+        String expectedTs = tsGenerator.generate(dateGroupStatement);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 40; i++) {
+                results.add(executor.submit(() -> {
+                    StringBuilder json = new StringBuilder();
+                    jsonGenerator.generate(dateGroupStatement, json);
+                    return json + "\n" + tsGenerator.generate(dateGroupStatement);
+                }));
+            }
+            for (Future<String> result : results) {
+                String[] parts = result.get().split("\n", 2);
+                assertTrue(parts[0].startsWith("{\"date\":\""));
+                assertTrue(parts[0].contains("\"parent\":null"));
+                assertTrue(parts[0].endsWith("}"));
+                assertEquals(expectedTs, parts[1]);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.yourname.pojo2jsts.generators;
+
+import com.yourname.pojo2jsts.model.ClassModel;
+import com.yourname.pojo2jsts.model.FieldModel;
+import com.yourname.pojo2jsts.model.GenerationProgress;
+import com.yourname.pojo2jsts.model.TypeRef;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the file output backends
+ */
+class OutputSinkTest {
+
+    @TempDir
+    Path tempDir;
+
+    private static String sampleText() {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 200_000; i++) {
+            // Multi-byte characters and surrogate pairs keep crossing buffer boundaries
+            text.append("{\"id\":").append(i).append(",\"name\":\"Zoë 😀 ").append(i % 97).append("\"}\n");
+        }
+        return text.toString();
+    }
+
+    @Test
+    void testChannelSinkWritesUtf8() throws Exception {
+        String text = sampleText();
+        Path target = tempDir.resolve("channel.ndjson");
+
+        OutputSink sink = OutputSink.toFile(target);
+        try (sink) {
+            for (int i = 0; i < text.length(); i += 1000) {
+                sink.append(text, i, Math.min(i + 1000, text.length()));
+            }
+            sink.append('x');
+        }
+
+        byte[] expected = (text + "x").getBytes(StandardCharsets.UTF_8);
+        assertArrayEquals(expected, Files.readAllBytes(target));
+        assertEquals(expected.length, sink.getBytesWritten());
+    }
+
+    @Test
+    void testMappedSinkIsTruncatedToWrittenSize() throws Exception {
+        String text = sampleText();
+        Path target = tempDir.resolve("mapped.ndjson");
+        Files.write(target, new byte[1 << 16]);
+
+        // Small regions, so the text spans many of them
+        try (OutputSink sink = OutputSink.toMappedFile(target, 1 << 16)) {
+            sink.append(text);
+            sink.append(new StringBuilder("tail"));
+        }
+
+        assertEquals(text + "tail", Files.readString(target, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testGzipSinkWritesOneMember() throws Exception {
+        String text = sampleText();
+        Path target = tempDir.resolve("text.gz");
+
+        OutputSink sink = OutputSink.toGzipFile(target, 6);
+        try (sink) {
+            sink.append(text);
+        }
+
+        byte[] expected = text.getBytes(StandardCharsets.UTF_8);
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(target))) {
+            assertArrayEquals(expected, in.readAllBytes());
+        }
+        assertEquals(expected.length, sink.getBytesWritten());
+        assertTrue(Files.size(target) < expected.length);
+    }
+
+    @Test
+    void testTypeScriptStreamsIntoSink() throws Exception {
+        Path target = tempDir.resolve("model.ts");
+        ClassModel model = new ClassModel("test.Item", "Item", false, false);
+        model.setDeclaredFields(List.of(new FieldModel("name", TypeRef.builtin(BuiltinType.STRING), false)));
+
+        try (OutputSink sink = OutputSink.toFile(target)) {
+            new TypeScriptGenerator().generateInterfaces(model, sink, GenerationProgress.NONE);
+        }
+
+        assertEquals(new TypeScriptGenerator().generate(model), Files.readString(target, StandardCharsets.UTF_8));
+    }
+}
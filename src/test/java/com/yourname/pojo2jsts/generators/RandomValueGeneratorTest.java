@@ -88,4 +88,35 @@ class RandomValueGeneratorTest {
         assertTrue(size >= 1);
         assertTrue(size <= 3);
     }
-}
\ No newline at end of file
+    
+    @Test
+    void testSameSeedSameSequence() {
+        RandomValueGenerator first = new RandomValueGenerator(42L);
+        RandomValueGenerator second = new RandomValueGenerator(42L);
+        
+        for (int i = 0; i < 50; i++) {
+            assertEquals(first.generateString(), second.generateString());
+            assertEquals(first.generateDouble(), second.generateDouble());
+            assertEquals(first.generateUUID(), second.generateUUID());
+        }
+    }
+    
+    @Test
+    void testGeneratedUuidIsVersion4() {
+        java.util.UUID uuid = java.util.UUID.fromString(new RandomValueGenerator(7L).generateUUID());
+        assertEquals(4, uuid.version());
+        assertEquals(2, uuid.variant());
+    }
+    
+    @Test
+    void testDerivedStreamsAreStableAndIndependent() {
+        RandomValueGenerator root = new RandomValueGenerator(42L);
+        long firstOfStream3 = root.derive(3).generateLong();
+        
+        // Drawing from the parent does not shift derived streams
+        root.generateLong();
+        assertEquals(firstOfStream3, root.derive(3).generateLong());
+        assertEquals(firstOfStream3, new RandomValueGenerator(42L).derive(3).generateLong());
+        assertNotEquals(firstOfStream3, root.derive(4).generateLong());
+    }
+}
@@ -1,5 +1,6 @@
 package com.yourname.pojo2jsts.generators;
 
+import com.yourname.pojo2jsts.model.TypeModelBuilder;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
@@ -25,51 +26,27 @@ class TypeScriptGeneratorTest {
     
     @Test
     void testIsCollectionType() {
-        // Use reflection to test the private method
-        try {
-            java.lang.reflect.Method method = TypeScriptGenerator.class.getDeclaredMethod("isCollectionType", String.class);
-            method.setAccessible(true);
-            
-            assertTrue((Boolean) method.invoke(generator, "java.util.List"));
-            assertTrue((Boolean) method.invoke(generator, "java.util.ArrayList"));
-            assertTrue((Boolean) method.invoke(generator, "java.util.Set"));
-            assertTrue((Boolean) method.invoke(generator, "java.util.HashSet"));
-            assertFalse((Boolean) method.invoke(generator, "java.lang.String"));
-        } catch (Exception e) {
-            fail("Failed to test isCollectionType method: " + e.getMessage());
-        }
+        assertTrue(TypeModelBuilder.isCollectionType("java.util.List"));
+        assertTrue(TypeModelBuilder.isCollectionType("java.util.ArrayList"));
+        assertTrue(TypeModelBuilder.isCollectionType("java.util.Set"));
+        assertTrue(TypeModelBuilder.isCollectionType("java.util.HashSet"));
+        assertFalse(TypeModelBuilder.isCollectionType("java.lang.String"));
     }
     
     @Test
     void testIsMapType() {
-        // Use reflection to test the private method
-        try {
-            java.lang.reflect.Method method = TypeScriptGenerator.class.getDeclaredMethod("isMapType", String.class);
-            method.setAccessible(true);
-            
-            assertTrue((Boolean) method.invoke(generator, "java.util.Map"));
-            assertTrue((Boolean) method.invoke(generator, "java.util.HashMap"));
-            assertTrue((Boolean) method.invoke(generator, "java.util.LinkedHashMap"));
-            assertFalse((Boolean) method.invoke(generator, "java.util.List"));
-        } catch (Exception e) {
-            fail("Failed to test isMapType method: " + e.getMessage());
-        }
+        assertTrue(TypeModelBuilder.isMapType("java.util.Map"));
+        assertTrue(TypeModelBuilder.isMapType("java.util.HashMap"));
+        assertTrue(TypeModelBuilder.isMapType("java.util.LinkedHashMap"));
+        assertFalse(TypeModelBuilder.isMapType("java.util.List"));
     }
     
     @Test
     void testIsSystemClass() {
-        // Use reflection to test the private method
-        try {
-            java.lang.reflect.Method method = TypeScriptGenerator.class.getDeclaredMethod("isSystemClass", String.class);
-            method.setAccessible(true);
-            
-            assertTrue((Boolean) method.invoke(generator, "java.lang.String"));
-            assertTrue((Boolean) method.invoke(generator, "java.util.List"));
-            assertTrue((Boolean) method.invoke(generator, "javax.annotation.Nullable"));
-            assertFalse((Boolean) method.invoke(generator, "com.yourname.pojo2jsts.test.User"));
-            assertFalse((Boolean) method.invoke(generator, "my.custom.Class"));
-        } catch (Exception e) {
-            fail("Failed to test isSystemClass method: " + e.getMessage());
-        }
+        assertTrue(TypeModelBuilder.isSystemClass("java.lang.String"));
+        assertTrue(TypeModelBuilder.isSystemClass("java.util.List"));
+        assertTrue(TypeModelBuilder.isSystemClass("javax.annotation.Nullable"));
+        assertFalse(TypeModelBuilder.isSystemClass("com.yourname.pojo2jsts.test.User"));
+        assertFalse(TypeModelBuilder.isSystemClass("my.custom.Class"));
     }
 }
\ No newline at end of file
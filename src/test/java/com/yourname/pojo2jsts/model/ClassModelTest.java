@@ -0,0 +1,69 @@
+package com.yourname.pojo2jsts.model;
+
+import com.yourname.pojo2jsts.generators.BuiltinType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the inherited field layout of ClassModel
+ */
+class ClassModelTest {
+
+    private ClassModel baseEntity;
+    private ClassModel auditedEntity;
+
+    @BeforeEach
+    void setUp() {
+        baseEntity = new ClassModel("test.BaseEntity", "BaseEntity", false, false);
+        baseEntity.setDeclaredFields(List.of(
+            new FieldModel("id", TypeRef.builtin(BuiltinType.LONG), false)
+        ));
+
+        auditedEntity = new ClassModel("test.AuditedEntity", "AuditedEntity", false, false);
+        auditedEntity.setDeclaredFields(List.of(
+            new FieldModel("createdAt", TypeRef.builtin(BuiltinType.INSTANT), false)
+        ));
+        auditedEntity.setSuperClass(baseEntity);
+    }
+
+    @Test
+    void testOwnFieldsComeFirst() {
+        ClassModel user = new ClassModel("test.User", "User", false, false);
+        user.setDeclaredFields(List.of(new FieldModel("name", TypeRef.builtin(BuiltinType.STRING), false)));
+        user.setSuperClass(auditedEntity);
+
+        List<FieldModel> fields = user.getFields();
+
+        assertEquals(3, fields.size());
+        assertEquals("name", fields.get(0).getName());
+        assertEquals("createdAt", fields.get(1).getName());
+        assertEquals("id", fields.get(2).getName());
+        assertEquals(1, user.getDeclaredFields().size());
+    }
+
+    @Test
+    void testLayoutIsComputedOnce() {
+        assertSame(auditedEntity.getFields(), auditedEntity.getFields());
+        assertSame(baseEntity.getDeclaredFields(), baseEntity.getFields());
+    }
+
+    @Test
+    void testLayoutRecomputedAfterChange() {
+        List<FieldModel> before = auditedEntity.getFields();
+
+        auditedEntity.setSuperClass(null);
+
+        assertEquals(2, before.size());
+        assertEquals(1, auditedEntity.getFields().size());
+    }
+
+    @Test
+    void testFieldsAreUnmodifiable() {
+        assertThrows(UnsupportedOperationException.class,
+            () -> auditedEntity.getFields().add(new FieldModel("x", TypeRef.UNKNOWN, false)));
+    }
+}
@@ -0,0 +1,81 @@
+package com.yourname.pojo2jsts.model;
+
+import com.intellij.openapi.progress.EmptyProgressIndicator;
+import com.intellij.openapi.progress.ProcessCanceledException;
+import com.yourname.pojo2jsts.generators.BuiltinType;
+import com.yourname.pojo2jsts.generators.JsonGenerator;
+import com.yourname.pojo2jsts.generators.TypeScriptGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for progress reporting and cancellation of a generation run
+ */
+class GenerationProgressTest {
+
+    private EmptyProgressIndicator indicator;
+    private ClassModel order;
+
+    @BeforeEach
+    void setUp() {
+        indicator = new EmptyProgressIndicator();
+
+        ClassModel line = new ClassModel("test.OrderLine", "OrderLine", false, false);
+        line.setDeclaredFields(List.of(new FieldModel("quantity", TypeRef.builtin(BuiltinType.INT), false)));
+        order = new ClassModel("test.Order", "Order", false, false);
+        order.setDeclaredFields(List.of(
+            new FieldModel("id", TypeRef.builtin(BuiltinType.STRING), false),
+            new FieldModel("lines", TypeRef.arrayOf(TypeRef.object(line)), false)
+        ));
+    }
+
+    @Test
+    void testWithoutIndicatorIsNoOp() {
+        assertSame(GenerationProgress.NONE, GenerationProgress.of(null));
+        assertDoesNotThrow(() -> {
+            GenerationProgress.NONE.checkCanceled();
+            GenerationProgress.NONE.classResolved("Order", 1, 2);
+            GenerationProgress.NONE.emitted(1, 2);
+        });
+    }
+
+    @Test
+    void testFractionNeverMovesBackwards() {
+        GenerationProgress progress = GenerationProgress.of(indicator);
+
+        progress.classResolved("Order", 1, 2);
+        assertEquals(0.25, indicator.getFraction(), 1e-9);
+
+        // More classes discovered than before must not shrink the bar
+        progress.classResolved("OrderLine", 1, 10);
+        assertEquals(0.25, indicator.getFraction(), 1e-9);
+
+        progress.emitted(2, 2);
+        assertEquals(1.0, indicator.getFraction(), 1e-9);
+    }
+
+    @Test
+    void testEmittersReachCompletion() {
+        new TypeScriptGenerator().generateInterfaces(order, GenerationProgress.of(indicator));
+        assertEquals(1.0, indicator.getFraction(), 1e-9);
+
+        EmptyProgressIndicator jsonIndicator = new EmptyProgressIndicator();
+        new JsonGenerator().generate(order, new StringBuilder(), GenerationProgress.of(jsonIndicator));
+        assertEquals(1.0, jsonIndicator.getFraction(), 1e-9);
+    }
+
+    @Test
+    void testCancelledRunStops() {
+        indicator.cancel();
+        GenerationProgress progress = GenerationProgress.of(indicator);
+
+        assertThrows(ProcessCanceledException.class,
+            () -> new TypeScriptGenerator().generateInterfaces(order, progress));
+        assertThrows(ProcessCanceledException.class,
+            () -> new JsonGenerator().generate(order, new StringBuilder(), progress));
+    }
+}